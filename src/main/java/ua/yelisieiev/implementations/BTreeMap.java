@@ -0,0 +1,615 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.SortedMap;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// B+ tree: every node keeps its keys in one array searched by binary search, the entities live
+// in the leaves only and the leaves are linked, so a range scan reads them sequentially;
+// put() splits full nodes and remove() refills minimal nodes on the way down, so neither goes back up
+public class BTreeMap<K, V> implements SortedMap<K, V> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 3;
+
+    // null means natural ordering
+    private final Comparator<? super K> comparator;
+    private final int nodeCapacity;
+    private Node root;
+    private LeafNode firstLeaf;
+    private LeafNode lastLeaf;
+    private int size;
+
+    public BTreeMap(int nodeCapacity, Comparator<? super K> comparator) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity can't be less than " + MIN_NODE_CAPACITY);
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.comparator = comparator;
+        root = firstLeaf = lastLeaf = new LeafNode();
+    }
+
+    public BTreeMap(Comparator<? super K> comparator) {
+        this(DEFAULT_NODE_CAPACITY, comparator);
+    }
+
+    public BTreeMap() {
+        this(DEFAULT_NODE_CAPACITY, null);
+    }
+
+    // builds the tree bottom up in O(n), the keys must be strictly ascending in the given order
+    public static <K, V> BTreeMap<K, V> fromSorted(Iterable<? extends Entity<K, V>> sortedEntities,
+                                                   Comparator<? super K> comparator) {
+        BTreeMap<K, V> map = new BTreeMap<>(comparator);
+        map.loadSorted(sortedEntities);
+        return map;
+    }
+
+    public static <K, V> BTreeMap<K, V> fromSorted(Iterable<? extends Entity<K, V>> sortedEntities) {
+        return fromSorted(sortedEntities, null);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkKey(key);
+        if (root.keyCount == nodeCapacity) {
+            InnerNode newRoot = new InnerNode();
+            newRoot.children[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+        }
+        Node node = root;
+        while (node instanceof InnerNode) {
+            InnerNode inner = (InnerNode) node;
+            int childIndex = inner.childIndex(key);
+            if (inner.children[childIndex].keyCount == nodeCapacity) {
+                splitChild(inner, childIndex);
+                if (compare(key, inner.keys[childIndex]) >= 0) {
+                    childIndex++;
+                }
+            }
+            node = inner.children[childIndex];
+        }
+        LeafNode leaf = (LeafNode) node;
+        int index = leaf.search(key);
+        if (index >= 0) {
+            V oldValue = leaf.values[index];
+            leaf.values[index] = value;
+            return oldValue;
+        }
+        leaf.insert(-index - 1, key, value);
+        size++;
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        checkKey(key);
+        LeafNode leaf = findLeaf(key);
+        int index = leaf.search(key);
+        return index >= 0 ? leaf.values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        checkKey(key);
+        return findLeaf(key).search(key) >= 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        checkKey(key);
+        Node node = root;
+        while (node instanceof InnerNode) {
+            InnerNode inner = (InnerNode) node;
+            int childIndex = inner.childIndex(key);
+            if (inner.children[childIndex].keyCount <= minKeys(inner.children[childIndex])) {
+                childIndex = refillChild(inner, childIndex);
+            }
+            node = inner.children[childIndex];
+            // the root lost its last key to a merge of its only two children
+            if (inner == root && inner.keyCount == 0) {
+                root = node;
+            }
+        }
+        LeafNode leaf = (LeafNode) node;
+        int index = leaf.search(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = leaf.values[index];
+        leaf.delete(index);
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public K firstKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("The map is empty");
+        }
+        return firstLeaf.keys[0];
+    }
+
+    @Override
+    public K lastKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("The map is empty");
+        }
+        return lastLeaf.keys[lastLeaf.keyCount - 1];
+    }
+
+    @Override
+    public K floorKey(K key) {
+        checkKey(key);
+        LeafNode leaf = findLeaf(key);
+        int index = leaf.search(key);
+        if (index >= 0) {
+            return leaf.keys[index];
+        }
+        int insertionPoint = -index - 1;
+        if (insertionPoint > 0) {
+            return leaf.keys[insertionPoint - 1];
+        }
+        // everything in the leaf is greater, the previous leaf has only smaller keys
+        return leaf.prev == null ? null : leaf.prev.keys[leaf.prev.keyCount - 1];
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        checkKey(key);
+        LeafNode leaf = findLeaf(key);
+        int index = leaf.search(key);
+        if (index >= 0) {
+            return leaf.keys[index];
+        }
+        int insertionPoint = -index - 1;
+        if (insertionPoint < leaf.keyCount) {
+            return leaf.keys[insertionPoint];
+        }
+        return leaf.next == null ? null : leaf.next.keys[0];
+    }
+
+    @Override
+    public Iterable<Entity<K, V>> range(K fromKey, K toKey) {
+        if (fromKey != null && toKey != null && compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey can't be greater than toKey");
+        }
+        return () -> new BTreeIterator(fromKey, toKey);
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new BTreeIterator(null, null);
+    }
+
+    private LeafNode findLeaf(K key) {
+        Node node = root;
+        while (node instanceof InnerNode) {
+            InnerNode inner = (InnerNode) node;
+            node = inner.children[inner.childIndex(key)];
+        }
+        return (LeafNode) node;
+    }
+
+    // splits a full child in two halves, the first key of the right half separates them in the parent
+    private void splitChild(InnerNode parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        int middle = nodeCapacity / 2;
+        K separator;
+        Node sibling;
+        if (child instanceof LeafNode) {
+            LeafNode leaf = (LeafNode) child;
+            LeafNode rightLeaf = new LeafNode();
+            int rightCount = leaf.keyCount - middle;
+            System.arraycopy(leaf.keys, middle, rightLeaf.keys, 0, rightCount);
+            System.arraycopy(leaf.values, middle, rightLeaf.values, 0, rightCount);
+            clear(leaf.keys, middle, leaf.keyCount);
+            clear(leaf.values, middle, leaf.keyCount);
+            rightLeaf.keyCount = rightCount;
+            leaf.keyCount = middle;
+            linkAfter(leaf, rightLeaf);
+            separator = rightLeaf.keys[0];
+            sibling = rightLeaf;
+        } else {
+            // the middle key moves up, the right node takes the keys and children after it
+            InnerNode inner = (InnerNode) child;
+            InnerNode rightInner = new InnerNode();
+            int rightCount = inner.keyCount - middle - 1;
+            separator = inner.keys[middle];
+            System.arraycopy(inner.keys, middle + 1, rightInner.keys, 0, rightCount);
+            System.arraycopy(inner.children, middle + 1, rightInner.children, 0, rightCount + 1);
+            clear(inner.keys, middle, inner.keyCount);
+            clear(inner.children, middle + 1, inner.keyCount + 1);
+            rightInner.keyCount = rightCount;
+            inner.keyCount = middle;
+            sibling = rightInner;
+        }
+        parent.insert(childIndex, separator, sibling);
+    }
+
+    // makes sure the child can lose a key: borrows one from a sibling or merges with it,
+    // returns the index of the child now covering the same keys
+    private int refillChild(InnerNode parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node left = childIndex > 0 ? parent.children[childIndex - 1] : null;
+        Node right = childIndex < parent.keyCount ? parent.children[childIndex + 1] : null;
+        if (left != null && left.keyCount > minKeys(left)) {
+            borrowFromLeft(parent, childIndex);
+            return childIndex;
+        }
+        if (right != null && right.keyCount > minKeys(right)) {
+            borrowFromRight(parent, childIndex);
+            return childIndex;
+        }
+        if (left != null) {
+            mergeChildren(parent, childIndex - 1);
+            return childIndex - 1;
+        }
+        mergeChildren(parent, childIndex);
+        return childIndex;
+    }
+
+    private void borrowFromLeft(InnerNode parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node left = parent.children[childIndex - 1];
+        if (child instanceof LeafNode) {
+            LeafNode leftLeaf = (LeafNode) left;
+            int last = leftLeaf.keyCount - 1;
+            ((LeafNode) child).insert(0, leftLeaf.keys[last], leftLeaf.values[last]);
+            leftLeaf.delete(last);
+            parent.keys[childIndex - 1] = child.keys[0];
+        } else {
+            InnerNode inner = (InnerNode) child;
+            InnerNode leftInner = (InnerNode) left;
+            System.arraycopy(inner.keys, 0, inner.keys, 1, inner.keyCount);
+            System.arraycopy(inner.children, 0, inner.children, 1, inner.keyCount + 1);
+            inner.keys[0] = parent.keys[childIndex - 1];
+            inner.children[0] = leftInner.children[leftInner.keyCount];
+            inner.keyCount++;
+            parent.keys[childIndex - 1] = leftInner.keys[leftInner.keyCount - 1];
+            leftInner.keys[leftInner.keyCount - 1] = null;
+            leftInner.children[leftInner.keyCount] = null;
+            leftInner.keyCount--;
+        }
+    }
+
+    private void borrowFromRight(InnerNode parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node right = parent.children[childIndex + 1];
+        if (child instanceof LeafNode) {
+            LeafNode rightLeaf = (LeafNode) right;
+            ((LeafNode) child).insert(child.keyCount, rightLeaf.keys[0], rightLeaf.values[0]);
+            rightLeaf.delete(0);
+            parent.keys[childIndex] = rightLeaf.keys[0];
+        } else {
+            InnerNode inner = (InnerNode) child;
+            InnerNode rightInner = (InnerNode) right;
+            inner.keys[inner.keyCount] = parent.keys[childIndex];
+            inner.children[inner.keyCount + 1] = rightInner.children[0];
+            inner.keyCount++;
+            parent.keys[childIndex] = rightInner.keys[0];
+            System.arraycopy(rightInner.keys, 1, rightInner.keys, 0, rightInner.keyCount - 1);
+            System.arraycopy(rightInner.children, 1, rightInner.children, 0, rightInner.keyCount);
+            rightInner.keys[rightInner.keyCount - 1] = null;
+            rightInner.children[rightInner.keyCount] = null;
+            rightInner.keyCount--;
+        }
+    }
+
+    // moves everything from the child at leftIndex + 1 into the child at leftIndex
+    private void mergeChildren(InnerNode parent, int leftIndex) {
+        Node left = parent.children[leftIndex];
+        Node right = parent.children[leftIndex + 1];
+        if (left instanceof LeafNode) {
+            LeafNode leftLeaf = (LeafNode) left;
+            LeafNode rightLeaf = (LeafNode) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.keyCount, rightLeaf.keyCount);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.keyCount, rightLeaf.keyCount);
+            leftLeaf.keyCount += rightLeaf.keyCount;
+            unlink(rightLeaf);
+        } else {
+            InnerNode leftInner = (InnerNode) left;
+            InnerNode rightInner = (InnerNode) right;
+            leftInner.keys[leftInner.keyCount] = parent.keys[leftIndex];
+            System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.keyCount + 1, rightInner.keyCount);
+            System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.keyCount + 1,
+                    rightInner.keyCount + 1);
+            leftInner.keyCount += rightInner.keyCount + 1;
+        }
+        parent.delete(leftIndex);
+    }
+
+    // a leaf may go down to half of the capacity, an inner node has one key less after a split
+    private int minKeys(Node node) {
+        return node instanceof LeafNode ? nodeCapacity / 2 : (nodeCapacity - 1) / 2;
+    }
+
+    private void linkAfter(LeafNode leaf, LeafNode newLeaf) {
+        newLeaf.prev = leaf;
+        newLeaf.next = leaf.next;
+        if (leaf.next != null) {
+            leaf.next.prev = newLeaf;
+        } else {
+            lastLeaf = newLeaf;
+        }
+        leaf.next = newLeaf;
+    }
+
+    private void unlink(LeafNode leaf) {
+        if (leaf.prev != null) {
+            leaf.prev.next = leaf.next;
+        } else {
+            firstLeaf = leaf.next;
+        }
+        if (leaf.next != null) {
+            leaf.next.prev = leaf.prev;
+        } else {
+            lastLeaf = leaf.prev;
+        }
+    }
+
+    // spreads the entities evenly over the fewest leaves that fit them, then does the same
+    // with every level of inner nodes, so no node ends up below the minimal size
+    private void loadSorted(Iterable<? extends Entity<K, V>> sortedEntities) {
+        MyArrayList<Entity<K, V>> entities = new MyArrayList<>();
+        K previousKey = null;
+        for (Entity<K, V> entity : sortedEntities) {
+            K key = entity.getKey();
+            checkKey(key);
+            if (previousKey != null && compare(previousKey, key) >= 0) {
+                throw new IllegalArgumentException("Keys must be in strictly ascending order");
+            }
+            entities.add(entity);
+            previousKey = key;
+        }
+        int entityCount = entities.size();
+        if (entityCount == 0) {
+            return;
+        }
+        int leafCount = (entityCount + nodeCapacity - 1) / nodeCapacity;
+        Node[] level = newNodes(leafCount);
+        K[] lowestKeys = (K[]) new Object[leafCount];
+        int entityIndex = 0;
+        LeafNode previousLeaf = null;
+        for (int i = 0; i < leafCount; i++) {
+            LeafNode leaf = new LeafNode();
+            leaf.keyCount = entityCount / leafCount + (i < entityCount % leafCount ? 1 : 0);
+            for (int j = 0; j < leaf.keyCount; j++) {
+                Entity<K, V> entity = entities.get(entityIndex++);
+                leaf.keys[j] = entity.getKey();
+                leaf.values[j] = entity.getValue();
+            }
+            if (previousLeaf == null) {
+                firstLeaf = leaf;
+            } else {
+                previousLeaf.next = leaf;
+                leaf.prev = previousLeaf;
+            }
+            previousLeaf = leaf;
+            level[i] = leaf;
+            lowestKeys[i] = leaf.keys[0];
+        }
+        lastLeaf = previousLeaf;
+        while (level.length > 1) {
+            int parentCount = (level.length + nodeCapacity) / (nodeCapacity + 1);
+            Node[] parents = newNodes(parentCount);
+            K[] parentLowestKeys = (K[]) new Object[parentCount];
+            int childIndex = 0;
+            for (int i = 0; i < parentCount; i++) {
+                InnerNode parent = new InnerNode();
+                int childCount = level.length / parentCount + (i < level.length % parentCount ? 1 : 0);
+                parentLowestKeys[i] = lowestKeys[childIndex];
+                for (int j = 0; j < childCount; j++, childIndex++) {
+                    parent.children[j] = level[childIndex];
+                    if (j > 0) {
+                        parent.keys[j - 1] = lowestKeys[childIndex];
+                    }
+                }
+                parent.keyCount = childCount - 1;
+                parents[i] = parent;
+            }
+            level = parents;
+            lowestKeys = parentLowestKeys;
+        }
+        root = level[0];
+        size = entityCount;
+    }
+
+    private int compare(K key, K otherKey) {
+        return comparator == null ? ((Comparable<? super K>) key).compareTo(otherKey) : comparator.compare(key, otherKey);
+    }
+
+    private void checkKey(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+    }
+
+    private Node[] newNodes(int length) {
+        return (Node[]) new BTreeMap.Node[length];
+    }
+
+    private static void clear(Object[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            array[i] = null;
+        }
+    }
+
+    private abstract class Node {
+        final K[] keys = (K[]) new Object[nodeCapacity];
+        int keyCount;
+
+        // index of the key, or -(insertion point + 1) if it's absent
+        int search(K key) {
+            int low = 0;
+            int high = keyCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(keys[middle], key);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    // keys[i] is the lowest key the subtree children[i + 1] may hold, everything in children[i] is less
+    private class InnerNode extends Node {
+        final Node[] children = newNodes(nodeCapacity + 1);
+
+        int childIndex(K key) {
+            int index = search(key);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        // the new child goes right after the separator
+        void insert(int index, K separator, Node rightChild) {
+            System.arraycopy(keys, index, keys, index + 1, keyCount - index);
+            System.arraycopy(children, index + 1, children, index + 2, keyCount - index);
+            keys[index] = separator;
+            children[index + 1] = rightChild;
+            keyCount++;
+        }
+
+        // removes the separator together with the child on its right
+        void delete(int index) {
+            System.arraycopy(keys, index + 1, keys, index, keyCount - index - 1);
+            System.arraycopy(children, index + 2, children, index + 1, keyCount - index - 1);
+            keyCount--;
+            keys[keyCount] = null;
+            children[keyCount + 1] = null;
+        }
+    }
+
+    private class LeafNode extends Node {
+        final V[] values = (V[]) new Object[nodeCapacity];
+        LeafNode prev;
+        LeafNode next;
+
+        void insert(int index, K key, V value) {
+            System.arraycopy(keys, index, keys, index + 1, keyCount - index);
+            System.arraycopy(values, index, values, index + 1, keyCount - index);
+            keys[index] = key;
+            values[index] = value;
+            keyCount++;
+        }
+
+        void delete(int index) {
+            System.arraycopy(keys, index + 1, keys, index, keyCount - index - 1);
+            System.arraycopy(values, index + 1, values, index, keyCount - index - 1);
+            keyCount--;
+            keys[keyCount] = null;
+            values[keyCount] = null;
+        }
+    }
+
+    // walks the linked leaves; remove() may move entities between leaves, so the iterator
+    // finds its place again by the key that follows the removed one
+    private class BTreeIterator implements Iterator<Entity<K, V>> {
+        private final K toKey;
+        private LeafNode leaf;
+        private int index;
+        private K lastKey;
+        private boolean canBeRemoved;
+
+        private BTreeIterator(K fromKey, K toKey) {
+            this.toKey = toKey;
+            if (fromKey == null) {
+                leaf = firstLeaf;
+            } else {
+                seek(fromKey);
+            }
+        }
+
+        private void seek(K key) {
+            leaf = findLeaf(key);
+            int found = leaf.search(key);
+            index = found >= 0 ? found : -found - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (leaf != null && index >= leaf.keyCount) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return leaf != null && (toKey == null || compare(leaf.keys[index], toKey) < 0);
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            lastKey = leaf.keys[index];
+            canBeRemoved = true;
+            return new BTreeEntity(leaf, index++);
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            BTreeMap.this.remove(lastKey);
+            seek(lastKey);
+            canBeRemoved = false;
+        }
+    }
+
+    // points at a leaf slot, falls back to a lookup if the entity has moved since
+    private class BTreeEntity implements Entity<K, V> {
+        private final LeafNode leaf;
+        private final int index;
+        private final K key;
+
+        private BTreeEntity(LeafNode leaf, int index) {
+            this.leaf = leaf;
+            this.index = index;
+            this.key = leaf.keys[index];
+        }
+
+        private boolean isInPlace() {
+            return index < leaf.keyCount && leaf.keys[index] == key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return isInPlace() ? leaf.values[index] : get(key);
+        }
+
+        @Override
+        public void setValue(V value) {
+            if (isInPlace()) {
+                leaf.values[index] = value;
+            } else {
+                put(key, value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "BTreeEntity{" +
+                    "key=" + key +
+                    ", value=" + getValue() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+
+// map with a maximum total weight, entries over the limit are evicted by the chosen policy;
+// access order is kept in intrusive doubly linked queues, so a hit only relinks an existing node
+public class BoundedCache<K, V> implements Map<K, V> {
+    // share of the maximum weight given to the admission window and to the protected queue of TINY_LFU
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+    // the frequency sketch starts this small and grows with the number of entries
+    private static final int INITIAL_SKETCH_SIZE = 16;
+
+    public enum EvictionPolicy {
+        // evicts the least recently used entry
+        LRU,
+        // new entries wait in a small LRU window, when leaving it they are admitted to the main
+        // segmented LRU only if they were seen more often than the entry they would push out
+        TINY_LFU
+    }
+
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
+
+    public interface EvictionListener<K, V> {
+        void onEviction(K key, V value);
+    }
+
+    private final MyMap<K, Node<K, V>> nodes = new MyMap<>();
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionPolicy evictionPolicy;
+    private final EvictionListener<? super K, ? super V> evictionListener;
+    private final FrequencySketch sketch;
+
+    // LRU keeps every entry in the probation queue, the other two are used by TINY_LFU only
+    private final Node<K, V> windowQueue = new Node<>();
+    private final Node<K, V> probationQueue = new Node<>();
+    private final Node<K, V> protectedQueue = new Node<>();
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public BoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionPolicy evictionPolicy,
+                        EvictionListener<? super K, ? super V> evictionListener) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.evictionPolicy = evictionPolicy;
+        this.evictionListener = evictionListener;
+        if (evictionPolicy == EvictionPolicy.TINY_LFU) {
+            sketch = new FrequencySketch(Math.min(maximumWeight, INITIAL_SKETCH_SIZE));
+            windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_SHARE));
+            protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_SHARE);
+        } else {
+            sketch = null;
+            windowMaximum = 0;
+            protectedMaximum = 0;
+        }
+    }
+
+    public BoundedCache(long maximumSize, EvictionPolicy evictionPolicy) {
+        this(maximumSize, (key, value) -> 1, evictionPolicy, null);
+    }
+
+    public BoundedCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        onAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight can't be negative");
+        }
+        Node<K, V> node = nodes.get(key);
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            changeWeight(node, weight - node.weight);
+            onAccess(node);
+            evict();
+            return oldValue;
+        }
+        node = new Node<>(key, value, weight);
+        nodes.put(key, node);
+        totalWeight += weight;
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            linkLast(probationQueue, node);
+        } else {
+            sketch.ensureCapacity(nodes.size());
+            linkLast(windowQueue, node);
+            windowWeight += weight;
+        }
+        evict();
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        unlinkNode(node);
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    public long weight() {
+        return totalWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (evictionPolicy == EvictionPolicy.LRU || node.queue == windowQueue || node.queue == protectedQueue) {
+            moveToLast(node);
+            return;
+        }
+        // second hit in probation promotes the entry, the protected queue overflow goes back to probation
+        unlink(node);
+        linkLast(protectedQueue, node);
+        protectedWeight += node.weight;
+        while (protectedWeight > protectedMaximum && protectedQueue.next != node) {
+            Node<K, V> demoted = protectedQueue.next;
+            unlink(demoted);
+            protectedWeight -= demoted.weight;
+            linkLast(probationQueue, demoted);
+        }
+    }
+
+    private void evict() {
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            while (totalWeight > maximumWeight) {
+                evictNode(probationQueue.next);
+            }
+            return;
+        }
+        // entries leaving the window become candidates at the tail of probation
+        Node<K, V> candidate = null;
+        while (windowWeight > windowMaximum) {
+            Node<K, V> node = windowQueue.next;
+            unlink(node);
+            windowWeight -= node.weight;
+            linkLast(probationQueue, node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (totalWeight > maximumWeight) {
+            Node<K, V> victim = firstOf(probationQueue);
+            if (victim == null) {
+                victim = firstOf(protectedQueue);
+            }
+            if (victim == null) {
+                victim = windowQueue.next;
+            }
+            if (candidate == null || candidate == victim || candidate.queue != probationQueue) {
+                if (candidate == victim) {
+                    candidate = nextCandidate(candidate);
+                }
+                evictNode(victim);
+            } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                evictNode(victim);
+            } else {
+                Node<K, V> rejected = candidate;
+                candidate = nextCandidate(candidate);
+                evictNode(rejected);
+            }
+        }
+    }
+
+    private Node<K, V> nextCandidate(Node<K, V> candidate) {
+        return candidate.next == probationQueue ? null : candidate.next;
+    }
+
+    private void evictNode(Node<K, V> node) {
+        nodes.remove(node.key);
+        unlinkNode(node);
+        evictionCount++;
+        if (evictionListener != null) {
+            evictionListener.onEviction(node.key, node.value);
+        }
+    }
+
+    private void changeWeight(Node<K, V> node, int delta) {
+        node.weight += delta;
+        totalWeight += delta;
+        if (node.queue == windowQueue) {
+            windowWeight += delta;
+        } else if (node.queue == protectedQueue) {
+            protectedWeight += delta;
+        }
+    }
+
+    private void unlinkNode(Node<K, V> node) {
+        changeWeight(node, -node.weight);
+        unlink(node);
+    }
+
+    private Node<K, V> firstOf(Node<K, V> queue) {
+        return queue.next == queue ? null : queue.next;
+    }
+
+    private void linkLast(Node<K, V> queue, Node<K, V> node) {
+        node.queue = queue;
+        node.prev = queue.prev;
+        node.next = queue;
+        queue.prev.next = node;
+        queue.prev = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node.next = null;
+        node.queue = null;
+    }
+
+    private void moveToLast(Node<K, V> node) {
+        Node<K, V> queue = node.queue;
+        unlink(node);
+        linkLast(queue, node);
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new BoundedCacheIterator();
+    }
+
+    // iteration is not an access, it doesn't change the eviction order
+    private class BoundedCacheIterator implements Iterator<Entity<K, V>> {
+        private final Iterator<Entity<K, Node<K, V>>> nodesIterator = nodes.iterator();
+        private Node<K, V> currentNode;
+
+        @Override
+        public boolean hasNext() {
+            return nodesIterator.hasNext();
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            currentNode = nodesIterator.next().getValue();
+            return new BoundedCacheEntity(currentNode);
+        }
+
+        @Override
+        public void remove() {
+            nodesIterator.remove();
+            unlinkNode(currentNode);
+        }
+    }
+
+    private class BoundedCacheEntity implements Entity<K, V> {
+        private final Node<K, V> node;
+
+        private BoundedCacheEntity(Node<K, V> node) {
+            this.node = node;
+        }
+
+        @Override
+        public K getKey() {
+            return node.key;
+        }
+
+        @Override
+        public V getValue() {
+            return node.value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            int weight = weigher.weigh(node.key, value);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight can't be negative");
+            }
+            node.value = value;
+            if (node.queue != null) {
+                changeWeight(node, weight - node.weight);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "BoundedCacheEntity{" +
+                    "key=" + node.key +
+                    ", value=" + node.value +
+                    '}';
+        }
+    }
+
+    // queue heads are sentinel nodes without a key
+    private static class Node<K, V> {
+        private final K key;
+        private V value;
+        private int weight;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private Node<K, V> queue;
+
+        private Node() {
+            this(null, null, 0);
+            prev = next = this;
+        }
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.HashingStrategy;
+
+// wraps a key with an expensive hashCode(), so the hash is computed only once
+public final class CachedHashKey<T> {
+    private final T value;
+    private final HashingStrategy<? super T> strategy;
+    private final int hash;
+
+    public CachedHashKey(T value, HashingStrategy<? super T> strategy) {
+        if (value == null) {
+            throw new NullPointerException("Wrapped value can't be null");
+        }
+        this.value = value;
+        this.strategy = strategy;
+        this.hash = strategy.hashCode(value);
+    }
+
+    public CachedHashKey(T value) {
+        this(value, HashingStrategies.natural());
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CachedHashKey)) {
+            return false;
+        }
+        CachedHashKey<T> other = (CachedHashKey<T>) o;
+        return hash == other.hash && strategy.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,121 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class Codecs {
+    private static final Codec<Integer> INTEGERS = new Codec<>() {
+        @Override
+        public int fixedSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset, int length) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    private static final Codec<Long> LONGS = new Codec<>() {
+        @Override
+        public int fixedSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset, int length) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    private static final Codec<Double> DOUBLES = new Codec<>() {
+        @Override
+        public int fixedSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset, int length) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    // UTF-8, the size is counted from the characters, so the string is encoded only once
+    private static final Codec<String> STRINGS = new Codec<>() {
+        @Override
+        public int fixedSize() {
+            return -1;
+        }
+
+        @Override
+        public int encodedSize(String value) {
+            int size = value.length();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    continue;
+                }
+                if (c < 0x800) {
+                    size++;
+                } else if (!Character.isSurrogate(c)) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // 4 bytes for the pair of chars
+                    size += 2;
+                    i++;
+                }
+                // an unpaired surrogate is encoded as a single '?'
+            }
+            return size;
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer buffer, int offset) {
+            buffer.put(offset, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer, int offset, int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private Codecs() {
+    }
+
+    public static Codec<Integer> integers() {
+        return INTEGERS;
+    }
+
+    public static Codec<Long> longs() {
+        return LONGS;
+    }
+
+    public static Codec<Double> doubles() {
+        return DOUBLES;
+    }
+
+    public static Codec<String> strings() {
+        return STRINGS;
+    }
+}
@@ -0,0 +1,699 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// thread-safe hash map:
+// - reads never lock, bins are published through a VarHandle and nodes have volatile fields
+// - writes lock only the head node of their own bin
+// - growBuckets() splits the table into strides that every writing thread helps to transfer
+public class ConcurrentMyMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    // hashes of the special nodes, regular hashes are always non-negative
+    private static final int MOVED = -1;
+    private static final int RESERVED = -2;
+    private static final int HASH_BITS = 0x7fffffff;
+
+    private static final Object NOT_FOUND = new Object();
+    private static final VarHandle BINS = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    private volatile Node<K, V>[] table;
+    private volatile Resize<K, V> resize;
+    private final Object resizeLock = new Object();
+    private final LongAdder count = new LongAdder();
+
+    public ConcurrentMyMap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        table = new Node[tableSizeFor(capacity + (capacity >>> 1) + 1)];
+    }
+
+    public ConcurrentMyMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = findNode(key, hash(key));
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(key, hash(key)) != null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return putValue(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return putValue(key, value, true);
+    }
+
+    @Override
+    public V remove(K key) {
+        Object oldValue = replaceNode(key, null, null, false, true);
+        return oldValue == NOT_FOUND ? null : (V) oldValue;
+    }
+
+    // removes the mapping only if the key is currently mapped to the expected value
+    public boolean remove(K key, V expectedValue) {
+        return replaceNode(key, null, expectedValue, true, true) != NOT_FOUND;
+    }
+
+    // replaces the value only if the key is currently mapped to some value
+    public V replace(K key, V value) {
+        Object oldValue = replaceNode(key, value, null, false, false);
+        return oldValue == NOT_FOUND ? null : (V) oldValue;
+    }
+
+    // replaces the value only if the key is currently mapped to the expected value
+    public boolean replace(K key, V expectedValue, V newValue) {
+        return replaceNode(key, newValue, expectedValue, true, false) != NOT_FOUND;
+    }
+
+    // the mapping function runs at most once per key while the bin is locked, so it must be short
+    // and must not update this map; a null result records no mapping
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        int hash = hash(key);
+        Node<K, V> existing = findNode(key, hash);
+        if (existing != null && existing.value != null) {
+            return existing.value;
+        }
+        Node<K, V>[] tab = table;
+        boolean contended = false;
+        while (true) {
+            int index = hash & (tab.length - 1);
+            Node<K, V> first = tabAt(tab, index);
+            if (first == null) {
+                Node<K, V> reservation = new ReservationNode<>();
+                V value = null;
+                boolean computed = false;
+                synchronized (reservation) {
+                    if (casTabAt(tab, index, null, reservation)) {
+                        computed = true;
+                        Node<K, V> node = null;
+                        try {
+                            value = mappingFunction.apply(key);
+                            if (value != null) {
+                                node = new Node<>(hash, key, value, null);
+                            }
+                        } finally {
+                            setTabAt(tab, index, node);
+                        }
+                    }
+                }
+                if (computed) {
+                    if (value != null) {
+                        addCount(tab, 0, contended);
+                    }
+                    return value;
+                }
+                contended = true;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                V value = null;
+                boolean validated = false;
+                boolean added = false;
+                int binCount = 0;
+                synchronized (first) {
+                    if (tabAt(tab, index) == first) {
+                        checkNotReserved(first);
+                        validated = true;
+                        for (Node<K, V> node = first; ; node = node.next, binCount++) {
+                            if (node.hash == hash && (node.key == key || key.equals(node.key))) {
+                                value = node.value;
+                                if (value == null) {
+                                    value = mappingFunction.apply(key);
+                                    node.value = value;
+                                }
+                                break;
+                            }
+                            if (node.next == null) {
+                                value = mappingFunction.apply(key);
+                                if (value != null) {
+                                    node.next = new Node<>(hash, key, value, null);
+                                    added = true;
+                                }
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (validated) {
+                    if (added) {
+                        addCount(tab, binCount + 1, contended);
+                    }
+                    return value;
+                }
+            }
+        }
+    }
+
+    // the remapping functions of computeIfPresent(), compute() and merge() run while the bin is locked,
+    // with the same restrictions as for computeIfAbsent(); a null result removes the mapping
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        return remapValue(key, remappingFunction, true);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        return remapValue(key, remappingFunction, false);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Objects.requireNonNull(value);
+        return remapValue(key, (k, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value),
+                false);
+    }
+
+    // onlyIfPresent leaves missing keys and null values alone without calling the function
+    private V remapValue(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction,
+                         boolean onlyIfPresent) {
+        int hash = hash(key);
+        Node<K, V>[] tab = table;
+        boolean contended = false;
+        while (true) {
+            int index = hash & (tab.length - 1);
+            Node<K, V> first = tabAt(tab, index);
+            if (first == null) {
+                if (onlyIfPresent) {
+                    return null;
+                }
+                Node<K, V> reservation = new ReservationNode<>();
+                V value = null;
+                boolean computed = false;
+                synchronized (reservation) {
+                    if (casTabAt(tab, index, null, reservation)) {
+                        computed = true;
+                        Node<K, V> node = null;
+                        try {
+                            value = remappingFunction.apply(key, null);
+                            if (value != null) {
+                                node = new Node<>(hash, key, value, null);
+                            }
+                        } finally {
+                            setTabAt(tab, index, node);
+                        }
+                    }
+                }
+                if (computed) {
+                    if (value != null) {
+                        addCount(tab, 0, contended);
+                    }
+                    return value;
+                }
+                contended = true;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                V value = null;
+                boolean validated = false;
+                int delta = 0;
+                int binCount = 0;
+                synchronized (first) {
+                    if (tabAt(tab, index) == first) {
+                        checkNotReserved(first);
+                        validated = true;
+                        for (Node<K, V> node = first, previous = null; ; previous = node, node = node.next, binCount++) {
+                            if (node.hash == hash && (node.key == key || key.equals(node.key))) {
+                                if (onlyIfPresent && node.value == null) {
+                                    break;
+                                }
+                                value = remappingFunction.apply(key, node.value);
+                                if (value != null) {
+                                    node.value = value;
+                                } else {
+                                    delta = -1;
+                                    if (previous != null) {
+                                        previous.next = node.next;
+                                    } else {
+                                        setTabAt(tab, index, node.next);
+                                    }
+                                }
+                                break;
+                            }
+                            if (node.next == null) {
+                                if (onlyIfPresent) {
+                                    break;
+                                }
+                                value = remappingFunction.apply(key, null);
+                                if (value != null) {
+                                    node.next = new Node<>(hash, key, value, null);
+                                    delta = 1;
+                                }
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (validated) {
+                    if (delta > 0) {
+                        addCount(tab, binCount + 1, contended);
+                    } else if (delta < 0) {
+                        count.decrement();
+                    }
+                    return value;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        long sum = count.sum();
+        return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    private Node<K, V> findNode(K key, int hash) {
+        Node<K, V>[] tab = table;
+        while (true) {
+            Node<K, V> node = tabAt(tab, hash & (tab.length - 1));
+            if (node != null && node.hash == MOVED) {
+                tab = ((ForwardingNode<K, V>) node).nextTable;
+                continue;
+            }
+            for (; node != null; node = node.next) {
+                if (node.hash == hash && (node.key == key || key.equals(node.key))) {
+                    return node;
+                }
+            }
+            return null;
+        }
+    }
+
+    private V putValue(K key, V value, boolean onlyIfAbsent) {
+        int hash = hash(key);
+        Node<K, V>[] tab = table;
+        boolean contended = false;
+        while (true) {
+            int index = hash & (tab.length - 1);
+            Node<K, V> first = tabAt(tab, index);
+            if (first == null) {
+                if (casTabAt(tab, index, null, new Node<>(hash, key, value, null))) {
+                    addCount(tab, 0, contended);
+                    return null;
+                }
+                contended = true;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                V oldValue = null;
+                boolean validated = false;
+                boolean added = false;
+                int binCount = 0;
+                synchronized (first) {
+                    if (tabAt(tab, index) == first) {
+                        checkNotReserved(first);
+                        validated = true;
+                        for (Node<K, V> node = first; ; node = node.next, binCount++) {
+                            if (node.hash == hash && (node.key == key || key.equals(node.key))) {
+                                oldValue = node.value;
+                                if (!onlyIfAbsent || oldValue == null) {
+                                    node.value = value;
+                                }
+                                break;
+                            }
+                            if (node.next == null) {
+                                node.next = new Node<>(hash, key, value, null);
+                                added = true;
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (validated) {
+                    if (added) {
+                        addCount(tab, binCount + 1, contended);
+                    }
+                    return oldValue;
+                }
+            }
+        }
+    }
+
+    // returns the old value, or NOT_FOUND if the key is absent or not mapped to the expected value
+    private Object replaceNode(K key, V newValue, V expectedValue, boolean checkExpected, boolean mustRemove) {
+        int hash = hash(key);
+        Node<K, V>[] tab = table;
+        while (true) {
+            int index = hash & (tab.length - 1);
+            Node<K, V> first = tabAt(tab, index);
+            if (first == null) {
+                return NOT_FOUND;
+            }
+            if (first.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) first);
+                continue;
+            }
+            Object result = NOT_FOUND;
+            boolean validated = false;
+            synchronized (first) {
+                if (tabAt(tab, index) == first) {
+                    validated = true;
+                    for (Node<K, V> node = first, previous = null; node != null; previous = node, node = node.next) {
+                        if (node.hash == hash && (node.key == key || key.equals(node.key))) {
+                            V currentValue = node.value;
+                            if (!checkExpected || Objects.equals(expectedValue, currentValue)) {
+                                result = currentValue;
+                                if (!mustRemove) {
+                                    node.value = newValue;
+                                } else if (previous != null) {
+                                    previous.next = node.next;
+                                } else {
+                                    setTabAt(tab, index, node.next);
+                                }
+                            }
+                            break;
+                        }
+                    }
+                }
+            }
+            if (validated) {
+                if (mustRemove && result != NOT_FOUND) {
+                    count.decrement();
+                }
+                return result;
+            }
+        }
+    }
+
+    // summing the adder reads every cell, so, as in ConcurrentHashMap, the threshold is checked only when
+    // the new node joined a bin of two or more nodes or the CAS on its empty bin failed; with hashes that
+    // spread perfectly the table may hold up to two nodes per bin before the check comes
+    private void addCount(Node<K, V>[] tab, int binCount, boolean contended) {
+        count.increment();
+        if (binCount < 2 && !contended) {
+            return;
+        }
+        if (count.sum() >= growThreshold(tab.length) && tab.length < MAXIMUM_CAPACITY) {
+            growBuckets(tab);
+        }
+    }
+
+    // starts a resize of the given table, or joins the one already running
+    private void growBuckets(Node<K, V>[] tab) {
+        Resize<K, V> currentResize;
+        synchronized (resizeLock) {
+            if (table != tab) {
+                return;
+            }
+            currentResize = resize;
+            if (currentResize == null) {
+                currentResize = new Resize<>(tab);
+                resize = currentResize;
+            }
+        }
+        transfer(currentResize);
+    }
+
+    private Node<K, V>[] helpTransfer(ForwardingNode<K, V> forwardingNode) {
+        Resize<K, V> currentResize = resize;
+        if (currentResize != null && currentResize.nextTable == forwardingNode.nextTable) {
+            transfer(currentResize);
+        }
+        return forwardingNode.nextTable;
+    }
+
+    // claims strides of bins until there are none left, splits each bin into the low and high bins
+    // of the next table and leaves a forwarding node behind
+    private void transfer(Resize<K, V> currentResize) {
+        Node<K, V>[] tab = currentResize.table;
+        Node<K, V>[] nextTab = currentResize.nextTable;
+        int length = tab.length;
+        int stride = Math.max(MIN_TRANSFER_STRIDE, (length >>> 3) / NCPU);
+        while (true) {
+            int end = currentResize.transferIndex.get();
+            if (end <= 0) {
+                return;
+            }
+            int start = Math.max(0, end - stride);
+            if (!currentResize.transferIndex.compareAndSet(end, start)) {
+                continue;
+            }
+            int index = end - 1;
+            while (index >= start) {
+                Node<K, V> first = tabAt(tab, index);
+                if (first == null) {
+                    if (casTabAt(tab, index, null, currentResize.forwardingNode)) {
+                        index--;
+                    }
+                    continue;
+                }
+                synchronized (first) {
+                    if (tabAt(tab, index) != first) {
+                        continue;
+                    }
+                    checkNotReserved(first);
+                    Node<K, V> low = null;
+                    Node<K, V> high = null;
+                    for (Node<K, V> node = first; node != null; node = node.next) {
+                        if ((node.hash & length) == 0) {
+                            low = new Node<>(node.hash, node.key, node.value, low);
+                        } else {
+                            high = new Node<>(node.hash, node.key, node.value, high);
+                        }
+                    }
+                    setTabAt(nextTab, index, low);
+                    setTabAt(nextTab, index + length, high);
+                    setTabAt(tab, index, currentResize.forwardingNode);
+                }
+                index--;
+            }
+            if (currentResize.remainingBins.addAndGet(start - end) == 0) {
+                synchronized (resizeLock) {
+                    table = nextTab;
+                    resize = null;
+                }
+                return;
+            }
+        }
+    }
+
+    private void checkNotReserved(Node<K, V> first) {
+        if (first.hash == RESERVED) {
+            throw new IllegalStateException("Recursive update of the map from computeIfAbsent");
+        }
+    }
+
+    private static int growThreshold(int length) {
+        return length - (length >>> 2);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY || capacity < 0) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & HASH_BITS;
+    }
+
+    private static <K, V> Node<K, V> tabAt(Node<K, V>[] tab, int index) {
+        return (Node<K, V>) BINS.getAcquire(tab, index);
+    }
+
+    private static <K, V> boolean casTabAt(Node<K, V>[] tab, int index, Node<K, V> expected, Node<K, V> node) {
+        return BINS.compareAndSet(tab, index, expected, node);
+    }
+
+    private static <K, V> void setTabAt(Node<K, V>[] tab, int index, Node<K, V> node) {
+        BINS.setRelease(tab, index, node);
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new ConcurrentMyMapIterator();
+    }
+
+    // the size changes under concurrent updates, so it isn't reported
+    @Override
+    public Spliterator<Entity<K, V>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    // weakly consistent: never throws on concurrent updates, sees each key at most once,
+    // may or may not see updates made after it was created
+    private class ConcurrentMyMapIterator implements Iterator<Entity<K, V>> {
+        private final Node<K, V>[] baseTable = table;
+        private int nextBaseIndex;
+        // forwarded bins still to visit, stored as (table, index) pairs
+        private final MyArrayList<Object> pendingBins = new MyArrayList<>();
+        private Node<K, V> nextNode;
+        private Entity<K, V> currentEntity;
+        private boolean canBeRemoved;
+
+        public ConcurrentMyMapIterator() {
+            nextNode = findNextBin();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            currentEntity = new ConcurrentMyMapEntity(nextNode.key, nextNode.value);
+            nextNode = nextNode.next != null ? nextNode.next : findNextBin();
+            canBeRemoved = true;
+            return currentEntity;
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            ConcurrentMyMap.this.remove(currentEntity.getKey());
+            canBeRemoved = false;
+        }
+
+        private Node<K, V> findNextBin() {
+            while (true) {
+                Node<K, V>[] tab;
+                int index;
+                if (!pendingBins.isEmpty()) {
+                    index = (Integer) pendingBins.remove(pendingBins.size() - 1);
+                    tab = (Node<K, V>[]) pendingBins.remove(pendingBins.size() - 1);
+                } else if (nextBaseIndex < baseTable.length) {
+                    tab = baseTable;
+                    index = nextBaseIndex++;
+                } else {
+                    return null;
+                }
+                Node<K, V> first = tabAt(tab, index);
+                if (first == null || first.hash == RESERVED) {
+                    continue;
+                }
+                if (first.hash == MOVED) {
+                    Node<K, V>[] nextTab = ((ForwardingNode<K, V>) first).nextTable;
+                    pendingBins.add(nextTab);
+                    pendingBins.add(index + tab.length);
+                    pendingBins.add(nextTab);
+                    pendingBins.add(index);
+                    continue;
+                }
+                return first;
+            }
+        }
+    }
+
+    private static class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private volatile V value;
+        private volatile Node<K, V> next;
+
+        private Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    // placed into a bin that was moved to the next table
+    private static class ForwardingNode<K, V> extends Node<K, V> {
+        private final Node<K, V>[] nextTable;
+
+        private ForwardingNode(Node<K, V>[] nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    // holds an empty bin locked while computeIfAbsent runs the mapping function
+    private static class ReservationNode<K, V> extends Node<K, V> {
+        private ReservationNode() {
+            super(RESERVED, null, null, null);
+        }
+    }
+
+    private static class Resize<K, V> {
+        private final Node<K, V>[] table;
+        private final Node<K, V>[] nextTable;
+        private final ForwardingNode<K, V> forwardingNode;
+        // bins [0, transferIndex) are not claimed by any thread yet
+        private final AtomicInteger transferIndex;
+        private final AtomicInteger remainingBins;
+
+        private Resize(Node<K, V>[] table) {
+            this.table = table;
+            this.nextTable = new Node[table.length << 1];
+            this.forwardingNode = new ForwardingNode<>(nextTable);
+            this.transferIndex = new AtomicInteger(table.length);
+            this.remainingBins = new AtomicInteger(table.length);
+        }
+    }
+
+    private class ConcurrentMyMapEntity implements Entity<K, V> {
+        private final K key;
+        private V value;
+
+        private ConcurrentMyMapEntity(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            this.value = value;
+            put(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return "ConcurrentMyMapEntity{" +
+                    "key=" + key +
+                    ", value=" + value +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// thread-safe list for the read-mostly case:
+// - the elements are a MyArrayList snapshot published through a volatile field and never changed after that
+// - reads and iteration take the current snapshot without locking
+// - writes copy the snapshot under a lock, change the copy and publish it
+// - batch() applies any number of changes to a single copy
+public class CopyOnWriteList<V> implements List<V> {
+    private final Object lock = new Object();
+    private volatile MyArrayList<V> snapshot = new MyArrayList<>();
+
+    public CopyOnWriteList() {
+    }
+
+    public CopyOnWriteList(List<? extends V> values) {
+        MyArrayList<V> copy = new MyArrayList<>(Math.max(1, values.size()));
+        copy.addAll(values);
+        snapshot = copy;
+    }
+
+    // the changes see and modify a private copy, which replaces the list when they return;
+    // if they throw, the list stays as it was; the copy must not be kept after the call
+    public void batch(Consumer<? super MyArrayList<V>> changes) {
+        Objects.requireNonNull(changes);
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 0);
+            changes.accept(copy);
+            snapshot = copy;
+        }
+    }
+
+    @Override
+    public void add(V value) {
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 1);
+            copy.add(value);
+            snapshot = copy;
+        }
+    }
+
+    @Override
+    public void add(V value, int index) {
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 1);
+            copy.add(value, index);
+            snapshot = copy;
+        }
+    }
+
+    @Override
+    public V remove(int index) {
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 0);
+            V removedValue = copy.remove(index);
+            snapshot = copy;
+            return removedValue;
+        }
+    }
+
+    @Override
+    public V set(V value, int index) {
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 0);
+            V oldValue = copy.set(value, index);
+            snapshot = copy;
+            return oldValue;
+        }
+    }
+
+    @Override
+    public void addAll(List<? extends V> values) {
+        addAll(values, size());
+    }
+
+    @Override
+    public void addAll(List<? extends V> values, int index) {
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, values.size());
+            copy.addAll(values, index);
+            snapshot = copy;
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 0);
+            copy.removeRange(fromIndex, toIndex);
+            snapshot = copy;
+        }
+    }
+
+    // the copy is published only if something was removed
+    @Override
+    public boolean removeIf(Predicate<? super V> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (lock) {
+            MyArrayList<V> copy = copyOf(snapshot, 0);
+            if (!copy.removeIf(filter)) {
+                return false;
+            }
+            snapshot = copy;
+            return true;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = new MyArrayList<>();
+        }
+    }
+
+    @Override
+    public V get(int index) {
+        return snapshot.get(index);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return snapshot.contains(value);
+    }
+
+    @Override
+    public int indexOf(V value) {
+        return snapshot.indexOf(value);
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        return snapshot.lastIndexOf(value);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot.toString();
+    }
+
+    // one copy of the container, with room for the elements about to be added
+    private static <E> MyArrayList<E> copyOf(MyArrayList<E> source, int extraCapacity) {
+        MyArrayList<E> copy = new MyArrayList<>(Math.max(1, source.size() + extraCapacity));
+        copy.addAll(source);
+        return copy;
+    }
+
+    @Override
+    public Spliterator<V> spliterator() {
+        return snapshot.spliterator();
+    }
+
+    // iterates the snapshot of the moment it is created, later changes of the list aren't seen
+    @Override
+    public Iterator<V> iterator() {
+        return new SnapshotIterator(snapshot);
+    }
+
+    private class SnapshotIterator implements Iterator<V> {
+        private final MyArrayList<V> elements;
+        private int currentIndex = -1;
+        private int removedCount;
+        private boolean canBeRemoved;
+
+        private SnapshotIterator(MyArrayList<V> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < elements.size() - 1;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            canBeRemoved = true;
+            return elements.get(++currentIndex);
+        }
+
+        // removes the element from the list, not from the snapshot; it is looked up where
+        // it is expected to be and then by identity, as other threads may have moved it
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            canBeRemoved = false;
+            Object element = elements.get(currentIndex);
+            synchronized (lock) {
+                MyArrayList<V> current = snapshot;
+                int index = currentIndex - removedCount;
+                if (index >= current.size() || current.get(index) != element) {
+                    index = -1;
+                    for (int i = 0; i < current.size(); i++) {
+                        if (current.get(i) == element) {
+                            index = i;
+                            break;
+                        }
+                    }
+                }
+                if (index >= 0) {
+                    MyArrayList<V> copy = copyOf(current, 0);
+                    copy.remove(index);
+                    snapshot = copy;
+                }
+            }
+            removedCount++;
+        }
+    }
+}
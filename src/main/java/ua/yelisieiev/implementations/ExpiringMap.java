@@ -0,0 +1,283 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+
+// map whose entries expire after a write, after the last access, or after their own time-to-live;
+// expiration times are kept in a timer wheel advanced by every call, so the cleanup costs
+// amortized O(1) per expired entry instead of a sweep over the whole map
+public class ExpiringMap<K, V> implements Map<K, V> {
+    public static final long NO_EXPIRATION = 0;
+
+    public interface Clock {
+        Clock SYSTEM = System::nanoTime;
+
+        long nanoTime();
+    }
+
+    private final MyMap<K, ExpiringNode<K, V>> nodes = new MyMap<>();
+    // sentinel of the list linking all the nodes, used for iteration
+    private final ExpiringNode<K, V> allNodes = new ExpiringNode<>(null, null);
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final Clock clock;
+    private final TimerWheel<ExpiringNode<K, V>> timerWheel;
+
+    // NO_EXPIRATION disables the corresponding policy
+    public ExpiringMap(long expireAfterWrite, long expireAfterAccess, TimeUnit unit, Clock clock) {
+        if (expireAfterWrite < 0 || expireAfterAccess < 0) {
+            throw new IllegalArgumentException("Expiration time can't be negative");
+        }
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+        this.expireAfterAccessNanos = unit.toNanos(expireAfterAccess);
+        this.clock = clock;
+        this.timerWheel = new TimerWheel<>(clock.nanoTime());
+        allNodes.before = allNodes.after = allNodes;
+    }
+
+    public ExpiringMap(long expireAfterWrite, TimeUnit unit) {
+        this(expireAfterWrite, NO_EXPIRATION, unit, Clock.SYSTEM);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        long now = expireEntries();
+        ExpiringNode<K, V> node = nodes.get(key);
+        V oldValue = null;
+        if (node == null) {
+            node = addNode(key, value);
+        } else if (!isExpired(node, now)) {
+            oldValue = node.value;
+        }
+        node.value = value;
+        node.fixedExpiration = false;
+        node.writeExpirationTime = now + expireAfterWriteNanos;
+        scheduleNode(node, now);
+        return oldValue;
+    }
+
+    // the entry expires after the given time regardless of the map policies and of its accesses
+    public V put(K key, V value, long timeToLive, TimeUnit unit) {
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        long now = expireEntries();
+        ExpiringNode<K, V> node = nodes.get(key);
+        V oldValue = null;
+        if (node == null) {
+            node = addNode(key, value);
+        } else if (!isExpired(node, now)) {
+            oldValue = node.value;
+        }
+        node.value = value;
+        node.fixedExpiration = true;
+        node.writeExpirationTime = now + unit.toNanos(timeToLive);
+        node.time = node.writeExpirationTime;
+        timerWheel.reschedule(node);
+        return oldValue;
+    }
+
+    @Override
+    public V get(K key) {
+        long now = expireEntries();
+        ExpiringNode<K, V> node = findAlive(key, now);
+        if (node == null) {
+            return null;
+        }
+        if (expireAfterAccessNanos != NO_EXPIRATION && !node.fixedExpiration) {
+            scheduleNode(node, now);
+        }
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findAlive(key, expireEntries()) != null;
+    }
+
+    @Override
+    public V remove(K key) {
+        long now = expireEntries();
+        ExpiringNode<K, V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        removeNode(node);
+        return isExpired(node, now) ? null : node.value;
+    }
+
+    // may count entries that are already due but not yet reached by the timer wheel
+    @Override
+    public int size() {
+        expireEntries();
+        return nodes.size();
+    }
+
+    // expires everything due now, useful when the map is not accessed for a long time
+    public void cleanUp() {
+        expireEntries();
+    }
+
+    private ExpiringNode<K, V> findAlive(K key, long now) {
+        ExpiringNode<K, V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (isExpired(node, now)) {
+            removeNode(node);
+            return null;
+        }
+        return node;
+    }
+
+    private long expireEntries() {
+        long now = clock.nanoTime();
+        timerWheel.advance(now, expiredNode -> {
+            nodes.remove(expiredNode.key);
+            unlink(expiredNode);
+        });
+        return now;
+    }
+
+    // expiration time is the earliest of write and access deadlines
+    private void scheduleNode(ExpiringNode<K, V> node, long now) {
+        boolean expiresAfterWrite = expireAfterWriteNanos != NO_EXPIRATION;
+        boolean expiresAfterAccess = expireAfterAccessNanos != NO_EXPIRATION;
+        if (!expiresAfterWrite && !expiresAfterAccess) {
+            timerWheel.deschedule(node);
+            node.expires = false;
+            return;
+        }
+        long time = expiresAfterWrite ? node.writeExpirationTime : now + expireAfterAccessNanos;
+        if (expiresAfterWrite && expiresAfterAccess && now + expireAfterAccessNanos - time < 0) {
+            time = now + expireAfterAccessNanos;
+        }
+        node.expires = true;
+        node.time = time;
+        timerWheel.reschedule(node);
+    }
+
+    private boolean isExpired(ExpiringNode<K, V> node, long now) {
+        return (node.expires || node.fixedExpiration) && node.time - now <= 0;
+    }
+
+    private ExpiringNode<K, V> addNode(K key, V value) {
+        ExpiringNode<K, V> node = new ExpiringNode<>(key, value);
+        nodes.put(key, node);
+        node.before = allNodes.before;
+        node.after = allNodes;
+        allNodes.before.after = node;
+        allNodes.before = node;
+        return node;
+    }
+
+    private void removeNode(ExpiringNode<K, V> node) {
+        nodes.remove(node.key);
+        timerWheel.deschedule(node);
+        unlink(node);
+    }
+
+    private void unlink(ExpiringNode<K, V> node) {
+        node.before.after = node.after;
+        node.after.before = node.before;
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new ExpiringMapIterator();
+    }
+
+    // the size may count entries that the iterator skips as expired, so it isn't reported
+    @Override
+    public Spliterator<Entity<K, V>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    // walks the list of all nodes, skipping the ones already expired; iteration doesn't count as an access
+    private class ExpiringMapIterator implements Iterator<Entity<K, V>> {
+        private final long now = expireEntries();
+        private ExpiringNode<K, V> nextNode = allNodes.after;
+        private ExpiringNode<K, V> currentNode;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            while (nextNode != allNodes && isExpired(nextNode, now)) {
+                nextNode = nextNode.after;
+            }
+            return nextNode != allNodes;
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            currentNode = nextNode;
+            nextNode = nextNode.after;
+            canBeRemoved = true;
+            return new ExpiringMapEntity(currentNode);
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            removeNode(currentNode);
+            canBeRemoved = false;
+        }
+    }
+
+    private class ExpiringMapEntity implements Entity<K, V> {
+        private final ExpiringNode<K, V> node;
+
+        private ExpiringMapEntity(ExpiringNode<K, V> node) {
+            this.node = node;
+        }
+
+        @Override
+        public K getKey() {
+            return node.key;
+        }
+
+        @Override
+        public V getValue() {
+            return node.value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            node.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return "ExpiringMapEntity{" +
+                    "key=" + node.key +
+                    ", value=" + node.value +
+                    '}';
+        }
+    }
+
+    private static class ExpiringNode<K, V> extends TimerWheel.Timer {
+        private final K key;
+        private V value;
+        private long writeExpirationTime;
+        // expires by the map policies, or by its own time-to-live
+        private boolean expires;
+        private boolean fixedExpiration;
+        private ExpiringNode<K, V> before;
+        private ExpiringNode<K, V> after;
+
+        private ExpiringNode(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.HashingStrategy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+public final class HashingStrategies {
+    // equal keys and identical ones always compare as 0, so it suits the natural and identity strategies
+    private static final Comparator<Object> NATURAL_ORDER = HashingStrategies::compareNaturally;
+
+    private static final HashingStrategy<Object> NATURAL = new HashingStrategy<>() {
+        @Override
+        public int hashCode(Object key) {
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object key, Object otherKey) {
+            return key.equals(otherKey);
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            return NATURAL_ORDER;
+        }
+    };
+
+    private static final HashingStrategy<Object> IDENTITY = new HashingStrategy<>() {
+        @Override
+        public int hashCode(Object key) {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object key, Object otherKey) {
+            return key == otherKey;
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            return NATURAL_ORDER;
+        }
+    };
+
+    // compares arrays by content, Object[] deeply, anything else falls back to hashCode()/equals()
+    private static final HashingStrategy<Object> ARRAYS = new HashingStrategy<>() {
+        @Override
+        public int hashCode(Object key) {
+            if (key instanceof byte[]) {
+                return Arrays.hashCode((byte[]) key);
+            } else if (key instanceof int[]) {
+                return Arrays.hashCode((int[]) key);
+            } else if (key instanceof long[]) {
+                return Arrays.hashCode((long[]) key);
+            } else if (key instanceof char[]) {
+                return Arrays.hashCode((char[]) key);
+            } else if (key instanceof short[]) {
+                return Arrays.hashCode((short[]) key);
+            } else if (key instanceof double[]) {
+                return Arrays.hashCode((double[]) key);
+            } else if (key instanceof float[]) {
+                return Arrays.hashCode((float[]) key);
+            } else if (key instanceof boolean[]) {
+                return Arrays.hashCode((boolean[]) key);
+            } else if (key instanceof Object[]) {
+                return Arrays.deepHashCode((Object[]) key);
+            }
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object key, Object otherKey) {
+            if (key instanceof byte[] && otherKey instanceof byte[]) {
+                return Arrays.equals((byte[]) key, (byte[]) otherKey);
+            } else if (key instanceof int[] && otherKey instanceof int[]) {
+                return Arrays.equals((int[]) key, (int[]) otherKey);
+            } else if (key instanceof long[] && otherKey instanceof long[]) {
+                return Arrays.equals((long[]) key, (long[]) otherKey);
+            } else if (key instanceof char[] && otherKey instanceof char[]) {
+                return Arrays.equals((char[]) key, (char[]) otherKey);
+            } else if (key instanceof short[] && otherKey instanceof short[]) {
+                return Arrays.equals((short[]) key, (short[]) otherKey);
+            } else if (key instanceof double[] && otherKey instanceof double[]) {
+                return Arrays.equals((double[]) key, (double[]) otherKey);
+            } else if (key instanceof float[] && otherKey instanceof float[]) {
+                return Arrays.equals((float[]) key, (float[]) otherKey);
+            } else if (key instanceof boolean[] && otherKey instanceof boolean[]) {
+                return Arrays.equals((boolean[]) key, (boolean[]) otherKey);
+            } else if (key instanceof Object[] && otherKey instanceof Object[]) {
+                return Arrays.deepEquals((Object[]) key, (Object[]) otherKey);
+            }
+            return key.equals(otherKey);
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            return NATURAL_ORDER;
+        }
+    };
+
+    // hashes folded characters in place, so no lower-cased copy of the key is created
+    private static final HashingStrategy<String> CASE_INSENSITIVE = new HashingStrategy<>() {
+        @Override
+        public int hashCode(String key) {
+            int hash = 0;
+            for (int i = 0; i < key.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(String key, String otherKey) {
+            return key.equalsIgnoreCase(otherKey);
+        }
+
+        @Override
+        public Comparator<? super String> comparator() {
+            return String.CASE_INSENSITIVE_ORDER;
+        }
+    };
+
+    private static final HashingStrategy<CachedHashKey<?>> CACHED_HASH = new HashingStrategy<>() {
+        @Override
+        public int hashCode(CachedHashKey<?> key) {
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equals(CachedHashKey<?> key, CachedHashKey<?> otherKey) {
+            return key.equals(otherKey);
+        }
+    };
+
+    private HashingStrategies() {
+    }
+
+    public static <K> HashingStrategy<K> natural() {
+        return (HashingStrategy<K>) NATURAL;
+    }
+
+    public static <K> HashingStrategy<K> identity() {
+        return (HashingStrategy<K>) IDENTITY;
+    }
+
+    public static <K> HashingStrategy<K> arrays() {
+        return (HashingStrategy<K>) ARRAYS;
+    }
+
+    public static HashingStrategy<String> caseInsensitive() {
+        return CASE_INSENSITIVE;
+    }
+
+    public static <T> HashingStrategy<CachedHashKey<T>> cachedHash() {
+        return (HashingStrategy<CachedHashKey<T>>) (HashingStrategy<?>) CACHED_HASH;
+    }
+
+    // orders the keys of one Comparable class naturally, 0 for anything else,
+    // as keys of different classes may still be equal, e.g. two kinds of lists
+    static int compareNaturally(Object key, Object otherKey) {
+        if (key.getClass() == otherKey.getClass() && key instanceof Comparable) {
+            return ((Comparable<Object>) key).compareTo(otherKey);
+        }
+        return 0;
+    }
+}
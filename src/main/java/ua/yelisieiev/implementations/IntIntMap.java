@@ -0,0 +1,141 @@
+package ua.yelisieiev.implementations;
+
+import java.util.Arrays;
+
+// int -> int map without boxing, open addressing with linear probing and backward-shift removal
+// free slots are tracked by the table's bitmap, so every int, 0 and -1 included, is a valid key
+// methods returning a value return 0 when there is no mapping for the key
+public class IntIntMap extends PrimitiveHashTable {
+    private static final int DEFAULT_CAPACITY = 16;
+    public static final double DEFAULT_GROW_FACTOR = 0.75;
+    private static final int NO_VALUE = 0;
+
+    private int[] keys;
+    private int[] values;
+
+    public IntIntMap(int capacity, double growFactor) {
+        super(capacity, growFactor);
+        keys = new int[capacity()];
+        values = new int[capacity()];
+    }
+
+    public IntIntMap(int capacity) {
+        this(capacity, DEFAULT_GROW_FACTOR);
+    }
+
+    public IntIntMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROW_FACTOR);
+    }
+
+    public int put(int key, int value) {
+        int slot = findSlot(key, spread(key));
+        if (slot >= 0) {
+            int oldValue = values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        insertAtSlot(~slot, key, value);
+        return NO_VALUE;
+    }
+
+    // adds delta to the value mapped to the key (missing mapping counts as 0), returns the old value
+    public int addTo(int key, int delta) {
+        int slot = findSlot(key, spread(key));
+        if (slot >= 0) {
+            int oldValue = values[slot];
+            values[slot] = oldValue + delta;
+            return oldValue;
+        }
+        insertAtSlot(~slot, key, delta);
+        return NO_VALUE;
+    }
+
+    public int get(int key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        int slot = findSlot(key, spread(key));
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return findSlot(key, spread(key)) >= 0;
+    }
+
+    public int remove(int key) {
+        int slot = findSlot(key, spread(key));
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+        int oldValue = values[slot];
+        removeAtSlot(slot);
+        return oldValue;
+    }
+
+    public void clear() {
+        clearTable();
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void insertAtSlot(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        occupySlot(slot);
+    }
+
+    @Override
+    int hashAt(int slot) {
+        return spread(keys[slot]);
+    }
+
+    @Override
+    boolean hasKey(int slot, long key) {
+        return keys[slot] == key;
+    }
+
+    @Override
+    void swapSlots(int first, int second) {
+        int key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+        int value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        // nothing to drop, a stale int is harmless
+    }
+
+    @Override
+    void growArrays(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    // allocation-free traversal: while (cursor.advance()) { cursor.key(); cursor.value(); }
+    public class Cursor extends SlotCursor {
+        private Cursor() {
+        }
+
+        public int key() {
+            checkPosition();
+            return keys[slot];
+        }
+
+        public int value() {
+            checkPosition();
+            return values[slot];
+        }
+
+        public void setValue(int value) {
+            checkPosition();
+            values[slot] = value;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package ua.yelisieiev.implementations;
+
+import java.util.Arrays;
+
+// int -> object map without boxing, open addressing with linear probing and backward-shift removal
+// free slots are tracked by the table's bitmap, so every int, 0 and -1 included, is a valid key
+// methods returning a value return null when there is no mapping for the key
+public class IntObjectMap<V> extends PrimitiveHashTable {
+    private static final int DEFAULT_CAPACITY = 16;
+    public static final double DEFAULT_GROW_FACTOR = 0.75;
+
+    private int[] keys;
+    private Object[] values;
+
+    public IntObjectMap(int capacity, double growFactor) {
+        super(capacity, growFactor);
+        keys = new int[capacity()];
+        values = new Object[capacity()];
+    }
+
+    public IntObjectMap(int capacity) {
+        this(capacity, DEFAULT_GROW_FACTOR);
+    }
+
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROW_FACTOR);
+    }
+
+    public V put(int key, V value) {
+        int slot = findSlot(key, spread(key));
+        if (slot >= 0) {
+            V oldValue = (V) values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        slot = ~slot;
+        keys[slot] = key;
+        values[slot] = value;
+        occupySlot(slot);
+        return null;
+    }
+
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        int slot = findSlot(key, spread(key));
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return findSlot(key, spread(key)) >= 0;
+    }
+
+    public V remove(int key) {
+        int slot = findSlot(key, spread(key));
+        if (slot < 0) {
+            return null;
+        }
+        V oldValue = (V) values[slot];
+        removeAtSlot(slot);
+        return oldValue;
+    }
+
+    public void clear() {
+        clearTable();
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    int hashAt(int slot) {
+        return spread(keys[slot]);
+    }
+
+    @Override
+    boolean hasKey(int slot, long key) {
+        return keys[slot] == key;
+    }
+
+    @Override
+    void swapSlots(int first, int second) {
+        int key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+        Object value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void growArrays(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    // allocation-free traversal: while (cursor.advance()) { cursor.key(); cursor.value(); }
+    public class Cursor extends SlotCursor {
+        private Cursor() {
+        }
+
+        public int key() {
+            checkPosition();
+            return keys[slot];
+        }
+
+        public V value() {
+            checkPosition();
+            return (V) values[slot];
+        }
+
+        public void setValue(V value) {
+            checkPosition();
+            values[slot] = value;
+        }
+    }
+}
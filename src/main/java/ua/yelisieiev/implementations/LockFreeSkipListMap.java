@@ -0,0 +1,563 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.SortedMap;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// thread-safe sorted map without locks, a skip list after Herlihy and Shavit:
+// - an entity is deleted logically by a CAS of its value to null, then its next references are marked
+//   from the top level down, and any thread walking the list snips the marked nodes out
+// - a new node is linked at the bottom level first, that CAS is the moment it appears in the map
+// - get() and the navigation methods only read, they skip deleted nodes without helping
+// - iterators are weakly consistent: they never fail, but may miss concurrent updates
+public class LockFreeSkipListMap<K, V> implements SortedMap<K, V> {
+    private static final int MAX_LEVEL = 32;
+
+    // stands for a null value, since null marks a deleted node
+    private static final Object NULL_VALUE = new Object();
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Node.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // null means natural ordering
+    private final Comparator<? super K> comparator;
+    private final Node<K> head = new Node<>(null, null, MAX_LEVEL - 1);
+    private final LongAdder count = new LongAdder();
+
+    public LockFreeSkipListMap(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public LockFreeSkipListMap() {
+        this(null);
+    }
+
+    @Override
+    public V get(K key) {
+        checkKey(key);
+        Node<K> node = findLiveNode(key);
+        return node == null ? null : unmask(node.value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        checkKey(key);
+        return findLiveNode(key) != null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkKey(key);
+        return unmask(doPut(key, mask(value), false));
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        checkKey(key);
+        Object oldValue = doPut(key, mask(value), true);
+        return oldValue == NULL_VALUE ? null : unmask(oldValue);
+    }
+
+    @Override
+    public V remove(K key) {
+        checkKey(key);
+        Node<K>[] preds = newNodes();
+        Node<K>[] succs = newNodes();
+        while (true) {
+            if (!find(key, preds, succs)) {
+                return null;
+            }
+            Node<K> node = succs[0];
+            Object value = node.value;
+            if (value == null) {
+                // somebody else is deleting it
+                return null;
+            }
+            if (node.casValue(value, null)) {
+                unlinkNode(node, key, preds, succs);
+                return unmask(value);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        long sum = count.sum();
+        return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    // the functions below may be called more than once if other threads update the same key meanwhile
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue == null) {
+            return null;
+        }
+        V currentValue = putIfAbsent(key, newValue);
+        return currentValue == null ? newValue : currentValue;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        checkKey(key);
+        while (true) {
+            Node<K> node = findLiveNode(key);
+            if (node == null) {
+                return null;
+            }
+            Object value = node.value;
+            if (value == null || value == NULL_VALUE) {
+                return null;
+            }
+            V newValue = remappingFunction.apply(key, unmask(value));
+            if (replaceValue(node, key, value, newValue)) {
+                return newValue;
+            }
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        checkKey(key);
+        while (true) {
+            Node<K> node = findLiveNode(key);
+            Object value = node == null ? null : node.value;
+            if (value == null) {
+                V newValue = remappingFunction.apply(key, null);
+                if (newValue == null || insertIfAbsent(key, newValue)) {
+                    return newValue;
+                }
+            } else {
+                V newValue = remappingFunction.apply(key, unmask(value));
+                if (replaceValue(node, key, value, newValue)) {
+                    return newValue;
+                }
+            }
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Objects.requireNonNull(value);
+        checkKey(key);
+        while (true) {
+            Node<K> node = findLiveNode(key);
+            Object oldValue = node == null ? null : node.value;
+            if (oldValue == null || oldValue == NULL_VALUE) {
+                if (insertIfAbsent(key, value)) {
+                    return value;
+                }
+            } else {
+                V newValue = remappingFunction.apply(unmask(oldValue), value);
+                if (replaceValue(node, key, oldValue, newValue)) {
+                    return newValue;
+                }
+            }
+        }
+    }
+
+    @Override
+    public K firstKey() {
+        Node<K> node = firstLiveNode(head.next[0].getReference());
+        if (node == null) {
+            throw new NoSuchElementException("The map is empty");
+        }
+        return node.key;
+    }
+
+    @Override
+    public K lastKey() {
+        while (true) {
+            Node<K> pred = head;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                Node<K> curr = pred.next[level].getReference();
+                while (curr != null) {
+                    if (curr.value != null) {
+                        pred = curr;
+                    }
+                    curr = curr.next[level].getReference();
+                }
+            }
+            if (pred == head) {
+                throw new NoSuchElementException("The map is empty");
+            }
+            if (pred.value != null) {
+                return pred.key;
+            }
+            // the last node got deleted after we passed the upper levels
+            markNode(pred);
+        }
+    }
+
+    @Override
+    public K floorKey(K key) {
+        checkKey(key);
+        while (true) {
+            Node<K> pred = findPredecessor(key);
+            Node<K> curr = ceilingNode(pred, key);
+            if (curr != null && compare(curr.key, key) == 0) {
+                return curr.key;
+            }
+            if (pred == head) {
+                return null;
+            }
+            if (pred.value != null) {
+                return pred.key;
+            }
+            // deleted but not yet marked, so the search still stops at it
+            markNode(pred);
+        }
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        checkKey(key);
+        Node<K> node = ceilingNode(findPredecessor(key), key);
+        return node == null ? null : node.key;
+    }
+
+    @Override
+    public Iterable<Entity<K, V>> range(K fromKey, K toKey) {
+        if (fromKey != null && toKey != null && compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey can't be greater than toKey");
+        }
+        return () -> new SkipListIterator(fromKey, toKey);
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new SkipListIterator(null, null);
+    }
+
+    // the size changes under concurrent updates, so it isn't reported
+    @Override
+    public Spliterator<Entity<K, V>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    // returns the previous raw value, null if the key was absent and a new node got linked
+    private Object doPut(K key, Object maskedValue, boolean onlyIfAbsent) {
+        Node<K>[] preds = newNodes();
+        Node<K>[] succs = newNodes();
+        int topLevel = randomLevel();
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node<K> node = succs[0];
+                Object value = node.value;
+                if (value == null) {
+                    // being deleted, help to unlink it and try again
+                    markNode(node);
+                    continue;
+                }
+                if (onlyIfAbsent && value != NULL_VALUE) {
+                    return value;
+                }
+                if (node.casValue(value, maskedValue)) {
+                    return value;
+                }
+                continue;
+            }
+            Node<K> newNode = new Node<>(key, maskedValue, topLevel);
+            for (int level = 0; level <= topLevel; level++) {
+                newNode.next[level].set(succs[level], false);
+            }
+            if (!preds[0].next[0].compareAndSet(succs[0], newNode, false, false)) {
+                continue;
+            }
+            count.increment();
+            linkUpperLevels(newNode, key, topLevel, preds, succs);
+            return null;
+        }
+    }
+
+    // the node is already in the map, the upper levels only speed up the search; if the node gets
+    // deleted meanwhile its next references are marked and linking stops
+    private void linkUpperLevels(Node<K> newNode, K key, int topLevel, Node<K>[] preds, Node<K>[] succs) {
+        for (int level = 1; level <= topLevel; level++) {
+            while (true) {
+                Node<K> pred = preds[level];
+                Node<K> succ = succs[level];
+                Node<K> oldSucc = newNode.next[level].getReference();
+                if (oldSucc != succ && !newNode.next[level].compareAndSet(oldSucc, succ, false, false)) {
+                    return;
+                }
+                if (pred.next[level].compareAndSet(succ, newNode, false, false)) {
+                    break;
+                }
+                if (!find(key, preds, succs) || succs[0] != newNode) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean insertIfAbsent(K key, V value) {
+        Object oldValue = doPut(key, mask(value), true);
+        return oldValue == null || oldValue == NULL_VALUE;
+    }
+
+    // a null new value deletes the node
+    private boolean replaceValue(Node<K> node, K key, Object expectedValue, V newValue) {
+        if (newValue != null) {
+            return node.casValue(expectedValue, newValue);
+        }
+        if (!node.casValue(expectedValue, null)) {
+            return false;
+        }
+        unlinkNode(node, key, newNodes(), newNodes());
+        return true;
+    }
+
+    private void unlinkNode(Node<K> node, K key, Node<K>[] preds, Node<K>[] succs) {
+        count.decrement();
+        markNode(node);
+        // snips the marked node on every level
+        find(key, preds, succs);
+    }
+
+    // marks the upper levels first, so the node stays reachable at the bottom until it's marked there
+    private void markNode(Node<K> node) {
+        for (int level = node.topLevel; level >= 0; level--) {
+            AtomicMarkableReference<Node<K>> next = node.next[level];
+            while (!next.isMarked()) {
+                next.attemptMark(next.getReference(), true);
+            }
+        }
+    }
+
+    // fills the predecessors and successors of the key on every level, unlinking marked nodes on the way
+    private boolean find(K key, Node<K>[] preds, Node<K>[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            Node<K> pred = head;
+            Node<K> curr = null;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = pred.next[level].getReference();
+                while (curr != null) {
+                    Node<K> succ = curr.next[level].get(marked);
+                    if (marked[0]) {
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                    } else if (compare(curr.key, key) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && compare(curr.key, key) == 0;
+        }
+    }
+
+    // the last node with a key less than the given one at the bottom level, doesn't modify the list
+    private Node<K> findPredecessor(K key) {
+        boolean[] marked = {false};
+        Node<K> pred = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<K> curr = pred.next[level].getReference();
+            while (curr != null) {
+                Node<K> succ = curr.next[level].get(marked);
+                if (!marked[0] && compare(curr.key, key) < 0) {
+                    pred = curr;
+                } else if (!marked[0]) {
+                    break;
+                }
+                curr = succ;
+            }
+        }
+        return pred;
+    }
+
+    private Node<K> findLiveNode(K key) {
+        Node<K> node = ceilingNode(findPredecessor(key), key);
+        return node != null && compare(node.key, key) == 0 ? node : null;
+    }
+
+    // the first live node not less than the key after the given predecessor;
+    // smaller keys may have been inserted right after the predecessor since it was found
+    private Node<K> ceilingNode(Node<K> pred, K key) {
+        Node<K> node = pred.next[0].getReference();
+        while (node != null && (node.value == null || compare(node.key, key) < 0)) {
+            node = node.next[0].getReference();
+        }
+        return node;
+    }
+
+    private Node<K> firstLiveNode(Node<K> node) {
+        while (node != null && node.value == null) {
+            node = node.next[0].getReference();
+        }
+        return node;
+    }
+
+    // geometric distribution with p = 1/2
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    private int compare(K key, K otherKey) {
+        return comparator == null ? ((Comparable<? super K>) key).compareTo(otherKey) : comparator.compare(key, otherKey);
+    }
+
+    private void checkKey(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private V unmask(Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    private Node<K>[] newNodes() {
+        return (Node<K>[]) new Node[MAX_LEVEL];
+    }
+
+    // walks the bottom level, remembers the value of the next entity when it finds it
+    private class SkipListIterator implements Iterator<Entity<K, V>> {
+        private final K toKey;
+        private Node<K> nextNode;
+        private Object nextValue;
+        private K lastKey;
+
+        private SkipListIterator(K fromKey, K toKey) {
+            this.toKey = toKey;
+            advance(fromKey == null ? head.next[0].getReference() : ceilingNode(findPredecessor(fromKey), fromKey));
+        }
+
+        private void advance(Node<K> node) {
+            while (node != null) {
+                Object value = node.value;
+                if (value != null) {
+                    if (toKey != null && compare(node.key, toKey) >= 0) {
+                        break;
+                    }
+                    nextNode = node;
+                    nextValue = value;
+                    return;
+                }
+                node = node.next[0].getReference();
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            Entity<K, V> entity = new SkipListEntity(nextNode.key, unmask(nextValue));
+            lastKey = nextNode.key;
+            advance(nextNode.next[0].getReference());
+            return entity;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            LockFreeSkipListMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    private class SkipListEntity implements Entity<K, V> {
+        private final K key;
+        private V value;
+
+        private SkipListEntity(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            this.value = value;
+            put(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return "SkipListEntity{" +
+                    "key=" + key +
+                    ", value=" + value +
+                    '}';
+        }
+    }
+
+    // the head node has no key and is less than any key
+    private static class Node<K> {
+        private final K key;
+        private volatile Object value;
+        private final AtomicMarkableReference<Node<K>>[] next;
+        private final int topLevel;
+
+        private Node(K key, Object value, int topLevel) {
+            this.key = key;
+            this.value = value;
+            this.topLevel = topLevel;
+            next = new AtomicMarkableReference[topLevel + 1];
+            for (int level = 0; level <= topLevel; level++) {
+                next[level] = new AtomicMarkableReference<>(null, false);
+            }
+        }
+
+        private boolean casValue(Object expectedValue, Object newValue) {
+            return VALUE.compareAndSet(this, expectedValue, newValue);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package ua.yelisieiev.implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+import java.util.function.LongConsumer;
+
+// MyArrayList for long values kept in a long[], so nothing is boxed on the way in or out
+public class LongArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double DEFAULT_GROW_MULTIPLIER = 1.5;
+
+    private long[] container;
+    private final double growMultiplier;
+    private int size;
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROW_MULTIPLIER);
+    }
+
+    public LongArrayList(int capacity, double growMultiplier) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (growMultiplier <= 1) {
+            throw new IllegalArgumentException("Grow multiplier must be bigger than 1");
+        }
+        this.growMultiplier = growMultiplier;
+        container = new long[capacity];
+    }
+
+    public LongArrayList(int capacity) {
+        this(capacity, DEFAULT_GROW_MULTIPLIER);
+    }
+
+    public void add(long value) {
+        if (size == container.length) {
+            growContainer(size + 1);
+        }
+        container[size++] = value;
+    }
+
+    public void add(long value, int index) {
+        checkIndexInBounds(index, size);
+        if (size == container.length) {
+            growContainer(size + 1);
+        }
+        System.arraycopy(container, index, container, index + 1, size - index);
+        container[index] = value;
+        size++;
+    }
+
+    // grows at most once for the whole array
+    public void addAll(long[] values) {
+        if (size + values.length > container.length) {
+            growContainer(size + values.length);
+        }
+        System.arraycopy(values, 0, container, size, values.length);
+        size += values.length;
+    }
+
+    public long remove(int index) {
+        checkIndexInBounds(index);
+        long removedValue = container[index];
+        System.arraycopy(container, index + 1, container, index, size - index - 1);
+        size--;
+        return removedValue;
+    }
+
+    public long get(int index) {
+        checkIndexInBounds(index);
+        return container[index];
+    }
+
+    public long set(long value, int index) {
+        checkIndexInBounds(index);
+        long oldValue = container[index];
+        container[index] = value;
+        return oldValue;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (container[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (container[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(container, size);
+    }
+
+    public void sort() {
+        Arrays.sort(container, 0, size);
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(container[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            stringJoiner.add(String.valueOf(container[i]));
+        }
+        return stringJoiner.toString();
+    }
+
+    private void growContainer(int minCapacity) {
+        // round up to ensure grow for at least 1
+        int newCapacity = (int) Math.round(container.length * growMultiplier + 0.5);
+        container = Arrays.copyOf(container, Math.max(newCapacity, minCapacity));
+    }
+
+    private void checkIndexInBounds(int index) {
+        checkIndexInBounds(index, size - 1);
+    }
+
+    private void checkIndexInBounds(int index, int upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    // nextLong() doesn't box, the inherited next() does
+    public PrimitiveIterator.OfLong iterator() {
+        return new MyIterator();
+    }
+
+    private class MyIterator implements PrimitiveIterator.OfLong {
+        private int currentIndex = -1;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size - 1;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            canBeRemoved = true;
+            currentIndex++;
+            return container[currentIndex];
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            LongArrayList.this.remove(currentIndex);
+            currentIndex--;
+            canBeRemoved = false;
+        }
+    }
+}
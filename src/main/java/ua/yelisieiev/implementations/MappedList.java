@@ -0,0 +1,484 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Codec;
+import ua.yelisieiev.interfaces.List;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.zip.CRC32;
+
+// append-only list persisted in memory-mapped segment files of a directory, elements are read
+// straight from the mapping, so reopening maps the files instead of rebuilding the list;
+// fixed-size values sit in slots addressed by index: crc, presence byte, value;
+// other values are records of crc, length (-1 for null) and the bytes, located through
+// an index of record addresses that is mapped from files as well;
+// force() makes the elements durable and stores their number in the header as the committed size,
+// on reopen only the elements after it are checked: the crc covers the epoch of the header,
+// which changes on every open and clear, so leftovers of earlier runs are never taken for new elements
+public class MappedList<V> implements List<V>, AutoCloseable {
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+    private static final int MAGIC = 0x4D4C5354;
+    private static final int HEADER_SIZE = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int FIXED_SIZE_OFFSET = 4;
+    private static final int SEGMENT_SIZE_OFFSET = 8;
+    private static final int EPOCH_OFFSET = 16;
+    private static final int COMMITTED_SIZE_OFFSET = 24;
+    private static final int CRC_BYTES = Integer.BYTES;
+    private static final int RECORD_HEADER_BYTES = CRC_BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final Codec<V> codec;
+    private final int segmentSize;
+    private final MappedByteBuffer header;
+    private final CRC32 crc = new CRC32();
+    private long epoch;
+    private int size;
+    private boolean closed;
+
+    private MappedByteBuffer[] dataSegments = new MappedByteBuffer[4];
+    // the lowest data segment written since the last force, Integer.MAX_VALUE if none
+    private int dirtyDataSegment;
+
+    // fixed layout
+    private final int slotSize;
+    private final int slotsPerSegment;
+
+    // variable layout: where the next record goes and the mapped index of record addresses
+    private long writeAddress;
+    private final int indexEntriesPerSegment;
+    private MappedByteBuffer[] indexSegments;
+    private int dirtyIndexSegment;
+
+    private MappedList(Path directory, Codec<V> codec, int segmentSize, MappedByteBuffer header) {
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.header = header;
+        int fixedSize = codec.fixedSize();
+        if (fixedSize >= 0) {
+            slotSize = CRC_BYTES + 1 + fixedSize;
+            slotsPerSegment = segmentSize / slotSize;
+            if (slotsPerSegment == 0) {
+                throw new IllegalArgumentException("Segment size is too small for an element: " + slotSize + " bytes");
+            }
+            indexEntriesPerSegment = 0;
+        } else {
+            slotSize = 0;
+            slotsPerSegment = 0;
+            indexEntriesPerSegment = segmentSize / Long.BYTES;
+            indexSegments = new MappedByteBuffer[4];
+        }
+        dirtyDataSegment = Integer.MAX_VALUE;
+        dirtyIndexSegment = Integer.MAX_VALUE;
+    }
+
+    // opens the list in the directory or creates an empty one there
+    public static <V> MappedList<V> open(Path directory, Codec<V> codec, int segmentSize) throws IOException {
+        if (segmentSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size can't be less than " + HEADER_SIZE);
+        }
+        Files.createDirectories(directory);
+        Path headerFile = directory.resolve("header");
+        boolean exists = Files.exists(headerFile);
+        MappedByteBuffer header = map(headerFile, HEADER_SIZE);
+        if (!exists) {
+            header.putInt(FIXED_SIZE_OFFSET, codec.fixedSize());
+            header.putInt(SEGMENT_SIZE_OFFSET, segmentSize);
+            header.putInt(MAGIC_OFFSET, MAGIC);
+        } else if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a list header: " + headerFile);
+        } else if (header.getInt(FIXED_SIZE_OFFSET) != codec.fixedSize()) {
+            throw new IllegalArgumentException("The codec doesn't match the one the list was written with");
+        } else if (header.getInt(SEGMENT_SIZE_OFFSET) != segmentSize) {
+            throw new IllegalArgumentException("Segment size doesn't match the existing list: "
+                    + header.getInt(SEGMENT_SIZE_OFFSET));
+        }
+        MappedList<V> list = new MappedList<>(directory, codec, segmentSize, header);
+        list.epoch = header.getLong(EPOCH_OFFSET);
+        list.recover(Math.toIntExact(header.getLong(COMMITTED_SIZE_OFFSET)));
+        return list;
+    }
+
+    public static <V> MappedList<V> open(Path directory, Codec<V> codec) throws IOException {
+        return open(directory, codec, DEFAULT_SEGMENT_SIZE);
+    }
+
+    @Override
+    public void add(V value) {
+        checkOpen();
+        if (slotSize > 0) {
+            writeSlot(size, value);
+        } else {
+            int length = value == null ? -1 : codec.encodedSize(value);
+            int recordSize = RECORD_HEADER_BYTES + Math.max(0, length);
+            if (recordSize > segmentSize) {
+                throw new IllegalArgumentException("Element doesn't fit in a segment: " + recordSize + " bytes");
+            }
+            if (OffHeapStore.offset(writeAddress) + recordSize > segmentSize) {
+                writeAddress = (writeAddress >>> 32) + 1 << 32;
+            }
+            writeRecord(writeAddress, length, value);
+            writeIndexEntry(size, writeAddress);
+            writeAddress += recordSize;
+        }
+        size++;
+    }
+
+    // only appends are supported
+    @Override
+    public void add(V value, int index) {
+        checkIndexInBounds(index, size);
+        if (index != size) {
+            throw new UnsupportedOperationException("Elements can only be appended");
+        }
+        add(value);
+    }
+
+    @Override
+    public V remove(int index) {
+        throw new UnsupportedOperationException("Elements can't be removed from an append-only list");
+    }
+
+    @Override
+    public V get(int index) {
+        checkOpen();
+        checkIndexInBounds(index);
+        if (slotSize > 0) {
+            ByteBuffer segment = dataSegment(index / slotsPerSegment);
+            int offset = index % slotsPerSegment * slotSize + CRC_BYTES;
+            return segment.get(offset) == 0 ? null : codec.decode(segment, offset + 1, slotSize - CRC_BYTES - 1);
+        }
+        long address = readIndexEntry(index);
+        ByteBuffer segment = dataSegment((int) (address >>> 32));
+        int offset = OffHeapStore.offset(address) + CRC_BYTES;
+        int length = segment.getInt(offset);
+        return length < 0 ? null : codec.decode(segment, offset + Integer.BYTES, length);
+    }
+
+    // fixed-size elements are replaced in place, the others can't be replaced
+    @Override
+    public V set(V value, int index) {
+        checkOpen();
+        checkIndexInBounds(index);
+        if (slotSize == 0) {
+            throw new UnsupportedOperationException("Only fixed-size elements can be replaced");
+        }
+        V oldValue = get(index);
+        writeSlot(index, value);
+        return oldValue;
+    }
+
+    // writes the changed segments to the disk, then commits the size in the header
+    public void force() {
+        checkOpen();
+        for (int i = dirtyDataSegment; i < dataSegments.length; i++) {
+            if (dataSegments[i] != null) {
+                dataSegments[i].force();
+            }
+        }
+        dirtyDataSegment = Integer.MAX_VALUE;
+        if (indexSegments != null) {
+            for (int i = dirtyIndexSegment; i < indexSegments.length; i++) {
+                if (indexSegments[i] != null) {
+                    indexSegments[i].force();
+                }
+            }
+            dirtyIndexSegment = Integer.MAX_VALUE;
+        }
+        header.putLong(COMMITTED_SIZE_OFFSET, size);
+        header.force();
+    }
+
+    // empties the list right away; a new epoch makes the old elements invalid for recovery
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+        writeAddress = 0;
+        startEpoch();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        force();
+        closed = true;
+        for (MappedByteBuffer segment : dataSegments) {
+            if (segment != null) {
+                OffHeapStore.freeBuffer(segment);
+            }
+        }
+        if (indexSegments != null) {
+            for (MappedByteBuffer segment : indexSegments) {
+                if (segment != null) {
+                    OffHeapStore.freeBuffer(segment);
+                }
+            }
+        }
+        OffHeapStore.freeBuffer(header);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(V value) {
+        for (int i = 0; i < size; i++) {
+            V element = get(i);
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        for (int i = size - 1; i >= 0; i--) {
+            V element = get(i);
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            stringJoiner.add(String.valueOf(get(i)));
+        }
+        return stringJoiner.toString();
+    }
+
+    // takes the committed elements as they are and checks the ones written after them one by one
+    private void recover(int committedSize) {
+        size = committedSize;
+        if (slotSize > 0) {
+            while (slotFileExists(size) && isValidSlot(size)) {
+                size++;
+            }
+        } else {
+            if (size > 0) {
+                long lastAddress = readIndexEntry(size - 1);
+                writeAddress = lastAddress + recordSize(lastAddress);
+            }
+            while (true) {
+                if (!isValidRecord(writeAddress)) {
+                    // the record may have gone to the next segment if it didn't fit into this one
+                    long nextSegmentAddress = (writeAddress >>> 32) + 1 << 32;
+                    if (!isValidRecord(nextSegmentAddress)) {
+                        break;
+                    }
+                    writeAddress = nextSegmentAddress;
+                }
+                writeIndexEntry(size++, writeAddress);
+                writeAddress += recordSize(writeAddress);
+            }
+        }
+        if (size > committedSize) {
+            // the recovered elements may still be only in the page cache, they are forced with the header
+            dirtyDataSegment = 0;
+            dirtyIndexSegment = 0;
+        }
+        startEpoch();
+    }
+
+    private void startEpoch() {
+        epoch++;
+        header.putLong(EPOCH_OFFSET, epoch);
+        force();
+    }
+
+    private boolean slotFileExists(int index) {
+        int segmentIndex = index / slotsPerSegment;
+        return segmentIndex < dataSegments.length && dataSegments[segmentIndex] != null
+                || Files.exists(dataFile(segmentIndex));
+    }
+
+    private boolean isValidSlot(int index) {
+        ByteBuffer segment = dataSegment(index / slotsPerSegment);
+        int offset = index % slotsPerSegment * slotSize;
+        return segment.getInt(offset) == checksum(segment, offset + CRC_BYTES, slotSize - CRC_BYTES);
+    }
+
+    private boolean isValidRecord(long address) {
+        int segmentIndex = (int) (address >>> 32);
+        if (!(segmentIndex < dataSegments.length && dataSegments[segmentIndex] != null)
+                && !Files.exists(dataFile(segmentIndex))) {
+            return false;
+        }
+        ByteBuffer segment = dataSegment(segmentIndex);
+        int offset = OffHeapStore.offset(address);
+        if (offset + RECORD_HEADER_BYTES > segmentSize) {
+            return false;
+        }
+        int length = segment.getInt(offset + CRC_BYTES);
+        if (length < -1 || length > segmentSize - offset - RECORD_HEADER_BYTES) {
+            return false;
+        }
+        return segment.getInt(offset) == checksum(segment, offset + CRC_BYTES, Integer.BYTES + Math.max(0, length));
+    }
+
+    private int recordSize(long address) {
+        int length = dataSegment((int) (address >>> 32)).getInt(OffHeapStore.offset(address) + CRC_BYTES);
+        return RECORD_HEADER_BYTES + Math.max(0, length);
+    }
+
+    private void writeSlot(int index, V value) {
+        int segmentIndex = index / slotsPerSegment;
+        ByteBuffer segment = dataSegment(segmentIndex);
+        int offset = index % slotsPerSegment * slotSize;
+        segment.put(offset + CRC_BYTES, (byte) (value == null ? 0 : 1));
+        if (value != null) {
+            codec.encode(value, segment, offset + CRC_BYTES + 1);
+        } else {
+            // the bytes of an earlier value would be part of the crc
+            for (int i = offset + CRC_BYTES + 1; i < offset + slotSize; i++) {
+                segment.put(i, (byte) 0);
+            }
+        }
+        segment.putInt(offset, checksum(segment, offset + CRC_BYTES, slotSize - CRC_BYTES));
+        dirtyDataSegment = Math.min(dirtyDataSegment, segmentIndex);
+    }
+
+    private void writeRecord(long address, int length, V value) {
+        int segmentIndex = (int) (address >>> 32);
+        ByteBuffer segment = dataSegment(segmentIndex);
+        int offset = OffHeapStore.offset(address);
+        segment.putInt(offset + CRC_BYTES, length);
+        if (value != null) {
+            codec.encode(value, segment, offset + RECORD_HEADER_BYTES);
+        }
+        segment.putInt(offset, checksum(segment, offset + CRC_BYTES, Integer.BYTES + Math.max(0, length)));
+        dirtyDataSegment = Math.min(dirtyDataSegment, segmentIndex);
+    }
+
+    // crc of the epoch and the bytes
+    private int checksum(ByteBuffer segment, int offset, int length) {
+        crc.reset();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (epoch >>> shift));
+        }
+        crc.update(segment.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private long readIndexEntry(int index) {
+        return indexSegment(index / indexEntriesPerSegment).getLong(index % indexEntriesPerSegment * Long.BYTES);
+    }
+
+    private void writeIndexEntry(int index, long address) {
+        int segmentIndex = index / indexEntriesPerSegment;
+        indexSegment(segmentIndex).putLong(index % indexEntriesPerSegment * Long.BYTES, address);
+        dirtyIndexSegment = Math.min(dirtyIndexSegment, segmentIndex);
+    }
+
+    private MappedByteBuffer dataSegment(int segmentIndex) {
+        if (segmentIndex >= dataSegments.length) {
+            dataSegments = Arrays.copyOf(dataSegments, Math.max(segmentIndex + 1, dataSegments.length * 2));
+        }
+        if (dataSegments[segmentIndex] == null) {
+            dataSegments[segmentIndex] = mapSegment(dataFile(segmentIndex));
+        }
+        return dataSegments[segmentIndex];
+    }
+
+    private MappedByteBuffer indexSegment(int segmentIndex) {
+        if (segmentIndex >= indexSegments.length) {
+            indexSegments = Arrays.copyOf(indexSegments, Math.max(segmentIndex + 1, indexSegments.length * 2));
+        }
+        if (indexSegments[segmentIndex] == null) {
+            indexSegments[segmentIndex] = mapSegment(directory.resolve(String.format("index-%05d", segmentIndex)));
+        }
+        return indexSegments[segmentIndex];
+    }
+
+    private Path dataFile(int segmentIndex) {
+        return directory.resolve(String.format("data-%05d", segmentIndex));
+    }
+
+    private MappedByteBuffer mapSegment(Path file) {
+        try {
+            return map(file, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // a new file is sparse, the pages get disk space only when they are written
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void checkIndexInBounds(int index) {
+        checkIndexInBounds(index, size - 1);
+    }
+
+    private void checkIndexInBounds(int index, int upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new MyIterator();
+    }
+
+    private class MyIterator implements Iterator<V> {
+        private int currentIndex = -1;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size - 1;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            currentIndex++;
+            return get(currentIndex);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// bounded lock-free queue for many producers and many consumers, after Dmitry Vyukov:
+// - every slot has a sequence number telling whose turn it is: index for the producer of that index,
+//   index + 1 for its consumer, index + capacity for the producer of the next lap
+// - a thread claims an index with a CAS on the producer or the consumer counter, then owns the slot
+//   until it publishes the next sequence number
+// - the producer and the consumer counters are padded apart, see PaddedCounters
+public class MpmcArrayQueue<V> implements Queue<V> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int PRODUCER_INDEX = PaddedCounters.slot(0);
+    private static final int CONSUMER_INDEX = PaddedCounters.slot(1);
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final PaddedCounters counters = new PaddedCounters(2);
+    private final long[] sequences;
+    private final Object[] elements;
+    private final int mask;
+
+    // the capacity is rounded up to a power of two, at least 2
+    public MpmcArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity can't be bigger than " + MAXIMUM_CAPACITY);
+        }
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        sequences = new long[size];
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+        elements = new Object[size];
+        mask = size - 1;
+    }
+
+    @Override
+    public boolean offer(V value) {
+        if (value == null) {
+            throw new NullPointerException("Value can't be null");
+        }
+        long index = counters.getVolatile(PRODUCER_INDEX);
+        while (true) {
+            int slot = (int) index & mask;
+            long difference = (long) LONGS.getAcquire(sequences, slot) - index;
+            if (difference == 0) {
+                long witness = counters.compareAndExchange(PRODUCER_INDEX, index, index + 1);
+                if (witness == index) {
+                    elements[slot] = value;
+                    LONGS.setRelease(sequences, slot, index + 1);
+                    return true;
+                }
+                index = witness;
+            } else if (difference < 0) {
+                // the consumer of the previous lap hasn't taken the slot yet
+                return false;
+            } else {
+                index = counters.getVolatile(PRODUCER_INDEX);
+            }
+        }
+    }
+
+    @Override
+    public V poll() {
+        long index = counters.getVolatile(CONSUMER_INDEX);
+        while (true) {
+            int slot = (int) index & mask;
+            long difference = (long) LONGS.getAcquire(sequences, slot) - (index + 1);
+            if (difference == 0) {
+                long witness = counters.compareAndExchange(CONSUMER_INDEX, index, index + 1);
+                if (witness == index) {
+                    V value = (V) elements[slot];
+                    elements[slot] = null;
+                    LONGS.setRelease(sequences, slot, index + mask + 1);
+                    return value;
+                }
+                index = witness;
+            } else if (difference < 0) {
+                // the producer of this index hasn't published yet
+                return null;
+            } else {
+                index = counters.getVolatile(CONSUMER_INDEX);
+            }
+        }
+    }
+
+    // retries if a consumer took the head while it was read
+    @Override
+    public V peek() {
+        while (true) {
+            long index = counters.getVolatile(CONSUMER_INDEX);
+            int slot = (int) index & mask;
+            if ((long) LONGS.getAcquire(sequences, slot) != index + 1) {
+                return null;
+            }
+            V value = (V) elements[slot];
+            if (counters.getVolatile(CONSUMER_INDEX) == index && value != null) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        long consumerIndex = counters.getVolatile(CONSUMER_INDEX);
+        long producerIndex = counters.getVolatile(PRODUCER_INDEX);
+        return (int) Math.max(0, Math.min(elements.length, producerIndex - consumerIndex));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,121 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// unbounded lock-free queue for many producers and one consumer thread, after Dmitry Vyukov:
+// - the head is a stub node whose next node holds the first value
+// - a producer swaps its node into the tail, then links the previous tail to it,
+//   between the two steps the consumer sees the queue as not yet linked and waits for the link
+// - the consumer recycles the old stubs through a bounded pool the producers take nodes from,
+//   the pool is an MpmcArrayQueue, so reusing a node can't confuse a producer the way a stack would
+public class MpscLinkedQueue<V> implements Queue<V> {
+    private static final int DEFAULT_POOL_SIZE = 1024;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(MpscLinkedQueue.class, "tail", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static class Node<E> {
+        private E value;
+        private volatile Node<E> next;
+    }
+
+    // consumer side
+    private Node<V> head;
+    // producer side
+    private volatile Node<V> tail;
+    private final MpmcArrayQueue<Node<V>> pool;
+
+    // a pool size of 0 turns the node reuse off
+    public MpscLinkedQueue(int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("Pool size can't be negative");
+        }
+        pool = poolSize == 0 ? null : new MpmcArrayQueue<>(poolSize);
+        head = tail = new Node<>();
+    }
+
+    public MpscLinkedQueue() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    @Override
+    public boolean offer(V value) {
+        if (value == null) {
+            throw new NullPointerException("Value can't be null");
+        }
+        Node<V> node = pool == null ? null : pool.poll();
+        if (node == null) {
+            node = new Node<>();
+        }
+        node.value = value;
+        node.next = null;
+        Node<V> previous = (Node<V>) TAIL.getAndSet(this, node);
+        previous.next = node;
+        return true;
+    }
+
+    // consumer thread only
+    @Override
+    public V poll() {
+        Node<V> next = nextOfHead();
+        if (next == null) {
+            return null;
+        }
+        V value = next.value;
+        next.value = null;
+        Node<V> oldHead = head;
+        head = next;
+        // no producer touches the old stub once it is linked
+        oldHead.next = null;
+        if (pool != null) {
+            pool.offer(oldHead);
+        }
+        return value;
+    }
+
+    // consumer thread only
+    @Override
+    public V peek() {
+        Node<V> next = nextOfHead();
+        return next == null ? null : next.value;
+    }
+
+    // walks the nodes, an estimate while producers add
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<V> node = head.next; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    // null if the queue is empty, waits for the link if a producer is between its two steps
+    private Node<V> nextOfHead() {
+        Node<V> current = head;
+        Node<V> next = current.next;
+        if (next == null) {
+            if (current == tail) {
+                return null;
+            }
+            while ((next = current.next) == null) {
+                Thread.onSpinWait();
+            }
+        }
+        return next;
+    }
+}
@@ -0,0 +1,270 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+// array list whose elements start at head and wrap around the end of the container, so adding
+// and removing at both ends is O(1); an insert or remove in the middle shifts the shorter side
+public class MyArrayDeque<V> implements List<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_GROW_MULTIPLIER = 2;
+
+    private Object[] container;
+    private final double growMultiplier;
+    private int head;
+    private int size;
+
+    public MyArrayDeque() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROW_MULTIPLIER);
+    }
+
+    public MyArrayDeque(int capacity, double growMultiplier) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (growMultiplier <= 1) {
+            throw new IllegalArgumentException("Grow multiplier must be bigger than 1");
+        }
+        this.growMultiplier = growMultiplier;
+        container = new Object[capacity];
+    }
+
+    public MyArrayDeque(int capacity) {
+        this(capacity, DEFAULT_GROW_MULTIPLIER);
+    }
+
+    public void addFirst(V value) {
+        if (size == container.length) {
+            growContainer();
+        }
+        head = decrement(head);
+        container[head] = value;
+        size++;
+    }
+
+    public void addLast(V value) {
+        if (size == container.length) {
+            growContainer();
+        }
+        container[physicalIndex(size)] = value;
+        size++;
+    }
+
+    // null if the deque is empty
+    public V pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        V value = (V) container[head];
+        container[head] = null;
+        head = increment(head);
+        size--;
+        return value;
+    }
+
+    public V pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = physicalIndex(size - 1);
+        V value = (V) container[tail];
+        container[tail] = null;
+        size--;
+        return value;
+    }
+
+    // the first element, null if the deque is empty
+    public V peek() {
+        return size == 0 ? null : (V) container[head];
+    }
+
+    @Override
+    public void add(V value) {
+        addLast(value);
+    }
+
+    @Override
+    public void add(V value, int index) {
+        checkIndexInBounds(index, size);
+        if (size == container.length) {
+            growContainer();
+        }
+        if (index < size / 2) {
+            // the elements before the index move one step towards the head
+            head = decrement(head);
+            for (int i = 0; i < index; i++) {
+                container[physicalIndex(i)] = container[physicalIndex(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                container[physicalIndex(i)] = container[physicalIndex(i - 1)];
+            }
+        }
+        container[physicalIndex(index)] = value;
+        size++;
+    }
+
+    @Override
+    public V remove(int index) {
+        checkIndexInBounds(index);
+        V removedValue = (V) container[physicalIndex(index)];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                container[physicalIndex(i)] = container[physicalIndex(i - 1)];
+            }
+            container[head] = null;
+            head = increment(head);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                container[physicalIndex(i)] = container[physicalIndex(i + 1)];
+            }
+            container[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        return removedValue;
+    }
+
+    @Override
+    public V get(int index) {
+        checkIndexInBounds(index);
+        return (V) container[physicalIndex(index)];
+    }
+
+    @Override
+    public V set(V value, int index) {
+        checkIndexInBounds(index);
+        int physicalIndex = physicalIndex(index);
+        V oldValue = (V) container[physicalIndex];
+        container[physicalIndex] = value;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        container = new Object[container.length];
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(V value) {
+        for (int i = 0; i < size; i++) {
+            Object element = container[physicalIndex(i)];
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        for (int i = size - 1; i >= 0; i--) {
+            Object element = container[physicalIndex(i)];
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            stringJoiner.add(String.valueOf(container[physicalIndex(i)]));
+        }
+        return stringJoiner.toString();
+    }
+
+    // copies the wrapped ring into the start of a bigger container, so the head is at 0 again
+    private void growContainer() {
+        // round up to ensure grow for at least 1
+        int newCapacity = (int) Math.round(container.length * growMultiplier + 0.5);
+        Object[] newContainer = new Object[newCapacity];
+        int headPart = Math.min(size, container.length - head);
+        System.arraycopy(container, head, newContainer, 0, headPart);
+        System.arraycopy(container, 0, newContainer, headPart, size - headPart);
+        container = newContainer;
+        head = 0;
+    }
+
+    private int physicalIndex(int index) {
+        int physicalIndex = head + index;
+        return physicalIndex >= container.length ? physicalIndex - container.length : physicalIndex;
+    }
+
+    private int increment(int physicalIndex) {
+        return physicalIndex + 1 == container.length ? 0 : physicalIndex + 1;
+    }
+
+    private int decrement(int physicalIndex) {
+        return physicalIndex == 0 ? container.length - 1 : physicalIndex - 1;
+    }
+
+    private void checkIndexInBounds(int index) {
+        checkIndexInBounds(index, size - 1);
+    }
+
+    private void checkIndexInBounds(int index, int upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new MyIterator();
+    }
+
+    private class MyIterator implements Iterator<V> {
+        private int currentIndex = -1;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size - 1;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            canBeRemoved = true;
+            currentIndex++;
+            return (V) container[physicalIndex(currentIndex)];
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            MyArrayDeque.this.remove(currentIndex);
+            currentIndex--;
+            canBeRemoved = false;
+        }
+    }
+}
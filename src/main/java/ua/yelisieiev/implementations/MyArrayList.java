@@ -2,13 +2,23 @@ package ua.yelisieiev.implementations;
 
 import ua.yelisieiev.interfaces.List;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class MyArrayList<V> implements List<V> {
     private static final int DEFAULT_CAPACITY = 10;
     private static final double DEFAULT_GROW_MULTIPLIER = 1.5;
+    // below it the fork/join overhead is bigger than the work
+    private static final int DEFAULT_SORT_THRESHOLD = 1 << 13;
 
     private Object[] container;
     private int capacity;
@@ -45,13 +55,71 @@ public class MyArrayList<V> implements List<V> {
         checkIndexInBounds(index, size);
 
         if (size == capacity) {
-            growContainer();
+            growContainer(size + 1);
         }
         System.arraycopy(container, index, container, index + 1, size - index);
         container[index] = value;
         size++;
     }
 
+    @Override
+    public void addAll(List<? extends V> values) {
+        addAll(values, size);
+    }
+
+    // one grow and one shift for all the values
+    @Override
+    public void addAll(List<? extends V> values, int index) {
+        checkIndexInBounds(index, size);
+        Object[] added;
+        int count;
+        if (values instanceof MyArrayList && values != this) {
+            added = ((MyArrayList<?>) values).container;
+            count = values.size();
+        } else {
+            added = new Object[values.size()];
+            count = 0;
+            for (V value : values) {
+                added[count++] = value;
+            }
+        }
+        if (size + count > capacity) {
+            growContainer(size + count);
+        }
+        System.arraycopy(container, index, container, index + count, size - index);
+        System.arraycopy(added, 0, container, index, count);
+        size += count;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkIndexInBounds(fromIndex, toIndex);
+        checkIndexInBounds(toIndex, size);
+        System.arraycopy(container, toIndex, container, fromIndex, size - toIndex);
+        clearTail(size - (toIndex - fromIndex));
+    }
+
+    // kept elements are moved down in a single pass
+    @Override
+    public boolean removeIf(Predicate<? super V> filter) {
+        Objects.requireNonNull(filter);
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < size; i++) {
+                if (!filter.test((V) container[i])) {
+                    container[kept++] = container[i];
+                }
+            }
+        } finally {
+            // if the filter throws, the untested elements stay
+            System.arraycopy(container, i, container, kept, size - i);
+            clearTail(kept + size - i);
+        }
+        return size != oldSize;
+    }
+
     @Override
     public V remove(int index) {
         checkIndexInBounds(index);
@@ -125,6 +193,110 @@ public class MyArrayList<V> implements List<V> {
         return -1;
     }
 
+    // stable sort of the container itself, a null comparator means the natural order
+    public void sort(Comparator<? super V> comparator) {
+        Arrays.sort((V[]) container, 0, size, comparator);
+    }
+
+    public void parallelSort(Comparator<? super V> comparator) {
+        parallelSort(comparator, DEFAULT_SORT_THRESHOLD);
+    }
+
+    // stable fork/join merge sort, ranges up to the threshold are sorted sequentially;
+    // the merges need a buffer of half the size, not a copy of the whole list
+    public void parallelSort(Comparator<? super V> comparator, int sequentialThreshold) {
+        if (sequentialThreshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        if (size <= sequentialThreshold) {
+            sort(comparator);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new MergeSortTask<>(container, new Object[size / 2],
+                0, size, sequentialThreshold, comparator == null ? naturalOrder() : comparator));
+    }
+
+    public int binarySearch(V value) {
+        return binarySearch(value, null);
+    }
+
+    // the list must be sorted by the comparator, returns -(insertion point) - 1 for an absent value
+    public int binarySearch(V value, Comparator<? super V> comparator) {
+        Comparator<? super V> order = comparator == null ? naturalOrder() : comparator;
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = order.compare((V) container[middle], value);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static <E> Comparator<E> naturalOrder() {
+        return (Comparator<E>) Comparator.naturalOrder();
+    }
+
+    private static class MergeSortTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] array;
+        private final Object[] buffer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final Comparator<? super E> comparator;
+
+        private MergeSortTask(Object[] array, Object[] buffer, int from, int to, int threshold,
+                              Comparator<? super E> comparator) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                Arrays.sort((E[]) array, from, to, comparator);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MergeSortTask<>(array, buffer, from, middle, threshold, comparator),
+                    new MergeSortTask<>(array, buffer, middle, to, threshold, comparator));
+            merge(middle);
+        }
+
+        // the left run is moved to the buffer at from / 2: no more than half of the range,
+        // so the merges running at the same time use parts of the buffer that don't overlap
+        private void merge(int middle) {
+            if (comparator.compare((E) array[middle - 1], (E) array[middle]) <= 0) {
+                return;
+            }
+            int left = from / 2;
+            int leftEnd = left + middle - from;
+            System.arraycopy(array, from, buffer, left, middle - from);
+            int right = middle;
+            int target = from;
+            while (left < leftEnd && right < to) {
+                if (comparator.compare((E) array[right], (E) buffer[left]) < 0) {
+                    array[target++] = array[right++];
+                } else {
+                    array[target++] = buffer[left++];
+                }
+            }
+            System.arraycopy(buffer, left, array, target, leftEnd - left);
+        }
+    }
+
     @Override
     public String toString() {
         StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
@@ -134,9 +306,16 @@ public class MyArrayList<V> implements List<V> {
         return stringJoiner.toString();
     }
 
-    private void growContainer() {
+    private void clearTail(int newSize) {
+        for (int i = newSize; i < size; i++) {
+            container[i] = null;
+        }
+        size = newSize;
+    }
+
+    private void growContainer(int minCapacity) {
         // round up to ensure grow for at least 1
-        int newCapacity = (int) Math.round(capacity * growMultiplier + 0.5);
+        int newCapacity = Math.max(minCapacity, (int) Math.round(capacity * growMultiplier + 0.5));
         Object[] newContainer = new Object[newCapacity];
         System.arraycopy(container, 0, newContainer, 0, size);
         container = newContainer;
@@ -161,6 +340,62 @@ public class MyArrayList<V> implements List<V> {
         return new MyIterator<V>();
     }
 
+    @Override
+    public Spliterator<V> spliterator() {
+        return new MyArrayListSpliterator(0, size);
+    }
+
+    // splits the index range in halves, every part knows its exact size
+    private class MyArrayListSpliterator implements Spliterator<V> {
+        private int index;
+        private final int fence;
+
+        private MyArrayListSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super V> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept((V) container[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super V> action) {
+            Objects.requireNonNull(action);
+            Object[] container = MyArrayList.this.container;
+            for (; index < fence; index++) {
+                action.accept((V) container[index]);
+            }
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<V> prefix = new MyArrayListSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     private class MyIterator<E> implements Iterator<E> {
         private int currentIndex = -1;
         private boolean canBeRemoved = false;
@@ -2,6 +2,7 @@ package ua.yelisieiev.implementations;
 
 import ua.yelisieiev.interfaces.List;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.StringJoiner;
@@ -21,6 +22,10 @@ public class MyLinkedList<V> implements List<V> {
     private int size;
     private Node<V> first;
     private Node<V> last;
+    // the node found by the last indexed access, so loops over neighbouring indexes take a step or two;
+    // null when there is nothing to remember
+    private Node<V> fingerNode;
+    private int fingerIndex;
 
     @Override
     public Iterator<V> iterator() {
@@ -49,14 +54,85 @@ public class MyLinkedList<V> implements List<V> {
             Node<V> newNode = new Node<>(value);
             Node<V> nodeAtIndex = getNodeAtIndex(index);
             insertBeforeNode(newNode, nodeAtIndex);
+            fingerNode = newNode;
         }
     }
 
+    @Override
+    public void addAll(List<? extends V> values) {
+        addAll(values, size);
+    }
+
+    // links the new nodes into a chain first, then splices the whole chain in
+    @Override
+    public void addAll(List<? extends V> values, int index) {
+        checkIndexInBounds(index, size);
+        Node<V> chainFirst = null;
+        Node<V> chainLast = null;
+        int count = 0;
+        for (V value : values) {
+            Node<V> newNode = new Node<>(value);
+            if (chainFirst == null) {
+                chainFirst = newNode;
+            } else {
+                chainLast.next = newNode;
+                newNode.prev = chainLast;
+            }
+            chainLast = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        Node<V> next = index == size ? null : getNodeAtIndex(index);
+        Node<V> prev = next == null ? last : next.prev;
+        chainFirst.prev = prev;
+        chainLast.next = next;
+        if (prev == null) {
+            first = chainFirst;
+        } else {
+            prev.next = chainFirst;
+        }
+        if (next == null) {
+            last = chainLast;
+        } else {
+            next.prev = chainLast;
+        }
+        size += count;
+        fingerNode = chainFirst;
+        fingerIndex = index;
+    }
+
+    // cuts the whole chain of removed nodes out at once
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkIndexInBounds(fromIndex, toIndex);
+        checkIndexInBounds(toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node<V> prev = getNodeAtIndex(fromIndex).prev;
+        Node<V> next = getNodeAtIndex(toIndex - 1).next;
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            last = prev;
+        } else {
+            next.prev = prev;
+        }
+        size -= toIndex - fromIndex;
+        fingerNode = next;
+        fingerIndex = fromIndex;
+    }
+
     @Override
     public V remove(int index) {
         checkIndexInBounds(index);
         Node<V> removedNode = getNodeAtIndex(index);
-        removeByNode(removedNode);
+        removeByNode(removedNode, index);
         return removedNode.value;
     }
 
@@ -78,6 +154,7 @@ public class MyLinkedList<V> implements List<V> {
     @Override
     public void clear() {
         first = last = null;
+        fingerNode = null;
         size = 0;
     }
 
@@ -122,6 +199,65 @@ public class MyLinkedList<V> implements List<V> {
         return -1;
     }
 
+    // bottom-up merge sort that relinks the nodes, stable and without allocating anything;
+    // the runs are merged through the next links, the prev links are restored at the end;
+    // a null comparator means the natural order
+    public void sort(Comparator<? super V> comparator) {
+        if (size < 2) {
+            return;
+        }
+        Comparator<? super V> order = comparator == null ? (Comparator<? super V>) Comparator.naturalOrder() : comparator;
+        Node<V> head = first;
+        for (int width = 1; width < size; width <<= 1) {
+            Node<V> remaining = head;
+            Node<V> sortedLast = null;
+            head = null;
+            while (remaining != null) {
+                Node<V> left = remaining;
+                Node<V> right = cutAfter(left, width);
+                remaining = cutAfter(right, width);
+                while (left != null || right != null) {
+                    Node<V> taken;
+                    if (right == null || left != null && order.compare(left.value, right.value) <= 0) {
+                        taken = left;
+                        left = left.next;
+                    } else {
+                        taken = right;
+                        right = right.next;
+                    }
+                    if (sortedLast == null) {
+                        head = taken;
+                    } else {
+                        sortedLast.next = taken;
+                    }
+                    sortedLast = taken;
+                }
+            }
+            sortedLast.next = null;
+        }
+        Node<V> prev = null;
+        for (Node<V> node = head; node != null; node = node.next) {
+            node.prev = prev;
+            prev = node;
+        }
+        first = head;
+        last = prev;
+        fingerNode = null;
+    }
+
+    // cuts the chain after the given number of nodes and returns the rest of it
+    private static <E> Node<E> cutAfter(Node<E> node, int count) {
+        for (int i = 1; node != null && i < count; i++) {
+            node = node.next;
+        }
+        if (node == null) {
+            return null;
+        }
+        Node<E> rest = node.next;
+        node.next = null;
+        return rest;
+    }
+
     @Override
     public String toString() {
         StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
@@ -148,7 +284,7 @@ public class MyLinkedList<V> implements List<V> {
         private Node<V> nextNode = first;
         private Node<V> currentNode;
         private boolean canBeRemoved;
-//        private int currentIndex;
+        private int currentIndex = -1;
 
         @Override
         public boolean hasNext() {
@@ -162,7 +298,7 @@ public class MyLinkedList<V> implements List<V> {
             }
             currentNode = nextNode;
             nextNode = nextNode.next;
-//            currentIndex++;
+            currentIndex++;
             canBeRemoved = true;
             return currentNode.value;
         }
@@ -172,13 +308,26 @@ public class MyLinkedList<V> implements List<V> {
             if (!canBeRemoved) {
                 throw new IllegalStateException("No active entity for the iterator");
             }
-            MyLinkedList.this.removeByNode(currentNode);
-//            currentIndex--;
+            MyLinkedList.this.removeByNode(currentNode, currentIndex);
+            currentIndex--;
             canBeRemoved = false;
         }
     }
 
-    private void removeByNode(Node<V> removedNode) {
+    private void removeByNode(Node<V> removedNode, int index) {
+        if (fingerNode != null) {
+            if (index < fingerIndex) {
+                fingerIndex--;
+            } else if (removedNode == fingerNode) {
+                // the next node takes over the index, the last one has only the previous node to move to
+                if (removedNode.next != null) {
+                    fingerNode = removedNode.next;
+                } else {
+                    fingerNode = removedNode.prev;
+                    fingerIndex--;
+                }
+            }
+        }
         if (removedNode == first && removedNode == last) {
             first = last = null;
         } else if (removedNode == first) {
@@ -194,16 +343,27 @@ public class MyLinkedList<V> implements List<V> {
         size--;
     }
 
+    // walks from whichever is the closest: the first node, the last node or the finger
     private Node<V> getNodeAtIndex(int index) {
-        // TODO: always iterate from first to last - will optimize later
         Node<V> currentNode = first;
-        for (int i = 0; i < size; i++) {
-            if (i == index) {
-                return currentNode;
-            }
+        int currentIndex = 0;
+        if (size - 1 - index < index) {
+            currentNode = last;
+            currentIndex = size - 1;
+        }
+        if (fingerNode != null && Math.abs(fingerIndex - index) < Math.abs(currentIndex - index)) {
+            currentNode = fingerNode;
+            currentIndex = fingerIndex;
+        }
+        for (; currentIndex < index; currentIndex++) {
             currentNode = currentNode.next;
         }
-        throw new IllegalStateException("Internal size doesn't match actual list size");
+        for (; currentIndex > index; currentIndex--) {
+            currentNode = currentNode.prev;
+        }
+        fingerNode = currentNode;
+        fingerIndex = index;
+        return currentNode;
     }
 
     private void checkIndexInBounds(int index) {
@@ -1,24 +1,64 @@
 package ua.yelisieiev.implementations;
 
+import ua.yelisieiev.interfaces.HashingStrategy;
 import ua.yelisieiev.interfaces.Map;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class MyMap<K, V> implements Map<K, V> {
     private static final int DEFAULT_CAPACITY = 10;
     public static final double DEFAULT_GROW_FACTOR = 0.75;
     public static final double DEFAULT_GROW_MULTIPLIER = 2;
 
-    private MyArrayList<Entity<K, V>>[] buckets;
+    // minimal number of old buckets moved to the new array per put/remove during incremental resize
+    private static final int MIN_MIGRATION_STEP = 4;
+
+    // a list bucket longer than this turns into a tree, unless the map is small enough to just grow
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+
+    public enum ResizeMode {
+        // growBuckets() moves all the entities at once
+        BLOCKING,
+        // growBuckets() only allocates the new array, entities are moved by the following puts and removes
+        INCREMENTAL
+    }
+
+    private Bucket[] buckets;
     private int size;
     private double growFactor;
     private double growMultiplier;
+    private final ResizeMode resizeMode;
+    // null means key.hashCode()/key.equals()
+    private final HashingStrategy<? super K> hashingStrategy;
+    // not null while an incremental resize is in progress, buckets below migrationIndex are already moved
+    private Bucket[] oldBuckets;
+    private int migrationIndex;
+    private int migrationStep;
 
-    public MyMap(int capacity, double growFactor, double growMultiplier) {
+    public MyMap(int capacity, double growFactor, double growMultiplier, ResizeMode resizeMode,
+                 HashingStrategy<? super K> hashingStrategy) {
         this.growFactor = growFactor;
         this.growMultiplier = growMultiplier;
-        buckets = new MyArrayList[capacity];
+        this.resizeMode = resizeMode;
+        this.hashingStrategy = hashingStrategy;
+        buckets = newBuckets(capacity);
+    }
+
+    public MyMap(int capacity, double growFactor, double growMultiplier, ResizeMode resizeMode) {
+        this(capacity, growFactor, growMultiplier, resizeMode, null);
+    }
+
+    public MyMap(int capacity, double growFactor, double growMultiplier) {
+        this(capacity, growFactor, growMultiplier, ResizeMode.BLOCKING);
     }
 
     public MyMap(int capacity, double growFactor) {
@@ -33,70 +73,255 @@ public class MyMap<K, V> implements Map<K, V> {
         this(DEFAULT_CAPACITY, DEFAULT_GROW_FACTOR, DEFAULT_GROW_MULTIPLIER);
     }
 
+    public MyMap(int capacity, HashingStrategy<? super K> hashingStrategy) {
+        this(capacity, DEFAULT_GROW_FACTOR, DEFAULT_GROW_MULTIPLIER, ResizeMode.BLOCKING, hashingStrategy);
+    }
+
+    public MyMap(HashingStrategy<? super K> hashingStrategy) {
+        this(DEFAULT_CAPACITY, hashingStrategy);
+    }
+
     @Override
     public V put(K key, V value) {
-        Entity<K, V> oldEntity = findEntityByKey(key);
+        migrateBuckets();
+        int hash = hash(key);
+        MyEntity oldEntity = findOrRemoveEntityByKey(key, hash, false);
         if (oldEntity != null) {
             V oldValue = oldEntity.getValue();
             oldEntity.setValue(value);
             return oldValue;
         } else {
-            if (size >= buckets.length * growFactor) {
-                growBuckets();
+            addEntity(hash, key, value);
+            return null;
+        }
+    }
+
+    // the overrides below hash the key once and scan its bucket once, a missing key is appended
+    // to the bucket without another lookup; only removal of a present key scans the bucket again
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        MyEntity entity = findEntityByKey(key);
+        return entity == null ? defaultValue : entity.value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        migrateBuckets();
+        int hash = hash(key);
+        MyEntity entity = findOrRemoveEntityByKey(key, hash, false);
+        if (entity == null) {
+            addEntity(hash, key, value);
+            return null;
+        }
+        V oldValue = entity.value;
+        if (oldValue == null) {
+            entity.value = value;
+        }
+        return oldValue;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        migrateBuckets();
+        int hash = hash(key);
+        MyEntity entity = findOrRemoveEntityByKey(key, hash, false);
+        if (entity != null && entity.value != null) {
+            return entity.value;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue != null) {
+            if (entity == null) {
+                addEntity(hash, key, newValue);
+            } else {
+                entity.value = newValue;
             }
-            addEntityToBuckets(new MyEntity(key, value));
-            size++;
+        }
+        return newValue;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        migrateBuckets();
+        int hash = hash(key);
+        MyEntity entity = findOrRemoveEntityByKey(key, hash, false);
+        if (entity == null || entity.value == null) {
             return null;
         }
+        return replaceValue(entity, remappingFunction.apply(key, entity.value));
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        migrateBuckets();
+        int hash = hash(key);
+        MyEntity entity = findOrRemoveEntityByKey(key, hash, false);
+        V newValue = remappingFunction.apply(key, entity == null ? null : entity.value);
+        if (entity != null) {
+            return replaceValue(entity, newValue);
+        }
+        if (newValue != null) {
+            addEntity(hash, key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Objects.requireNonNull(value);
+        migrateBuckets();
+        int hash = hash(key);
+        MyEntity entity = findOrRemoveEntityByKey(key, hash, false);
+        if (entity == null) {
+            addEntity(hash, key, value);
+            return value;
+        }
+        if (entity.value == null) {
+            entity.value = value;
+            return value;
+        }
+        return replaceValue(entity, remappingFunction.apply(entity.value, value));
+    }
+
+    // null removes the entity
+    private V replaceValue(MyEntity entity, V newValue) {
+        if (newValue == null) {
+            findOrRemoveEntityByKey(entity.key, entity.hash, true);
+        } else {
+            entity.value = newValue;
+        }
+        return newValue;
     }
 
-    private void addEntityToBuckets(Entity<K, V> entity) {
-        addEntityToBuckets(entity, buckets);
+    // the key must not be in the map yet
+    private void addEntity(int hash, K key, V value) {
+        if (size >= buckets.length * growFactor) {
+            growBuckets();
+        }
+        addEntityToBuckets(new MyEntity(hash, key, value), buckets);
+        size++;
     }
 
-    private void addEntityToBuckets(Entity<K, V> entity, MyArrayList<Entity<K, V>>[] modifiedBuckets) {
-        int bucketIndex = Math.abs(entity.getKey().hashCode()) % modifiedBuckets.length;
-        if (modifiedBuckets[bucketIndex] == null) {
-            modifiedBuckets[bucketIndex] = new MyArrayList<>();
+    private void addEntityToBuckets(MyEntity entity, Bucket[] modifiedBuckets) {
+        int bucketIndex = bucketIndex(entity.hash, modifiedBuckets.length);
+        Bucket bucket = modifiedBuckets[bucketIndex];
+        if (bucket == null) {
+            bucket = modifiedBuckets[bucketIndex] = new ListBucket();
+        } else if (bucket instanceof ListBucket && bucket.size() >= TREEIFY_THRESHOLD
+                && modifiedBuckets.length >= MIN_TREEIFY_CAPACITY) {
+            bucket = modifiedBuckets[bucketIndex] = new TreeBucket(bucket);
         }
-        modifiedBuckets[bucketIndex].add(entity);
+        bucket.add(entity);
     }
 
     private void growBuckets() {
         int newCapacity = (int) (buckets.length * growMultiplier);
-        MyArrayList<Entity<K, V>>[] newBuckets = new MyArrayList[newCapacity]; // TODO: clarify what's happenning here
-        for (MyArrayList<Entity<K, V>> bucket : buckets) {
+        Bucket[] newBuckets = newBuckets(newCapacity);
+        if (resizeMode == ResizeMode.INCREMENTAL) {
+            finishMigration();
+            oldBuckets = buckets;
+            buckets = newBuckets;
+            migrationIndex = 0;
+            // spread the move over the puts left until the next grow, with a 2x margin
+            int putsUntilNextGrow = Math.max(1, (int) (newCapacity * growFactor) - size);
+            migrationStep = Math.max(MIN_MIGRATION_STEP, 2 * (oldBuckets.length / putsUntilNextGrow + 1));
+            return;
+        }
+        for (Bucket bucket : buckets) {
             if (bucket != null) {
-                for (Entity<K, V> kvEntity : bucket) {
-                    addEntityToBuckets(kvEntity, newBuckets);
-                }
+                moveEntities(bucket, newBuckets);
             }
         }
         buckets = newBuckets;
     }
 
-    private Entity<K, V> findEntityByKey(K key) {
-        return findOrRemoveEntityByKey(key, false);
+    private void moveEntities(Bucket bucket, Bucket[] newBuckets) {
+        for (Entity<K, V> kvEntity : bucket) {
+            addEntityToBuckets((MyEntity) kvEntity, newBuckets);
+        }
+    }
+
+    // moves the next few old buckets, so every single call does a bounded amount of work
+    private void migrateBuckets() {
+        if (oldBuckets != null) {
+            migrateBuckets(migrationStep);
+        }
+    }
+
+    private void finishMigration() {
+        if (oldBuckets != null) {
+            migrateBuckets(oldBuckets.length);
+        }
+    }
+
+    private void migrateBuckets(int bucketCount) {
+        int migrationEnd = Math.min(oldBuckets.length, migrationIndex + bucketCount);
+        for (; migrationIndex < migrationEnd; migrationIndex++) {
+            Bucket bucket = oldBuckets[migrationIndex];
+            if (bucket != null) {
+                moveEntities(bucket, buckets);
+                oldBuckets[migrationIndex] = null;
+            }
+        }
+        if (migrationIndex == oldBuckets.length) {
+            oldBuckets = null;
+        }
     }
 
-    private Entity<K, V> findOrRemoveEntityByKey(K key, boolean mustRemove) {
-        int bucketIndex = Math.abs(key.hashCode()) % buckets.length;
-        if (buckets[bucketIndex] == null) {
+    private MyEntity findEntityByKey(K key) {
+        return findOrRemoveEntityByKey(key, hash(key), false);
+    }
+
+    private MyEntity findOrRemoveEntityByKey(K key, int hash, boolean mustRemove) {
+        MyEntity kvEntity = findOrRemoveEntityByKey(key, hash, mustRemove, buckets);
+        if (kvEntity == null && oldBuckets != null) {
+            kvEntity = findOrRemoveEntityByKey(key, hash, mustRemove, oldBuckets);
+        }
+        return kvEntity;
+    }
+
+    private MyEntity findOrRemoveEntityByKey(K key, int hash, boolean mustRemove, Bucket[] searchedBuckets) {
+        int bucketIndex = bucketIndex(hash, searchedBuckets.length);
+        Bucket bucket = searchedBuckets[bucketIndex];
+        if (bucket == null) {
             return null;
-        } else {
-            Iterator<Entity<K, V>> iterator = buckets[bucketIndex].iterator();
-            while (iterator.hasNext()) {
-                Entity<K, V> kvEntity = iterator.next();
-                if (kvEntity.getKey().equals(key)) {
-                    if (mustRemove) {
-                        iterator.remove();
-                        size--;
-                    }
-                    return kvEntity;
-                }
+        }
+        if (!mustRemove) {
+            return bucket.find(hash, key);
+        }
+        MyEntity kvEntity = bucket.remove(hash, key);
+        if (kvEntity != null) {
+            size--;
+            if (bucket instanceof TreeBucket && bucket.size() <= UNTREEIFY_THRESHOLD) {
+                searchedBuckets[bucketIndex] = new ListBucket(bucket);
             }
         }
-        return null;
+        return kvEntity;
+    }
+
+    // spreads the high bits down, so keys differing only there don't end up in the same bucket
+    private int hash(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+        int h = hashingStrategy == null ? key.hashCode() : hashingStrategy.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    private boolean keysEqual(K key, K otherKey) {
+        return hashingStrategy == null ? key.equals(otherKey) : hashingStrategy.equals(key, otherKey);
+    }
+
+    private static int bucketIndex(int hash, int length) {
+        return (hash & 0x7fffffff) % length;
+    }
+
+    private Bucket[] newBuckets(int capacity) {
+        return (Bucket[]) new MyMap.Bucket[capacity];
     }
 
     @Override
@@ -119,7 +344,8 @@ public class MyMap<K, V> implements Map<K, V> {
 
     @Override
     public V remove(K key) {
-        Entity<K, V> removedEntity = findOrRemoveEntityByKey(key, true);
+        migrateBuckets();
+        Entity<K, V> removedEntity = findOrRemoveEntityByKey(key, hash(key), true);
         if (removedEntity == null) {
             return null;
         } else {
@@ -137,20 +363,28 @@ public class MyMap<K, V> implements Map<K, V> {
         return new MyMapIterator<>();
     }
 
+    // walks the new buckets and then the ones not yet moved from the old array;
+    // lookups and iterator removes never move buckets, so the order stays stable
     private class MyMapIterator<E> implements Iterator<Entity<K, V>> {
-        private Entity<K, V> nextEntity;
-        private Entity<K, V> currentEntity;
-        private boolean canBeRemoved;
         private int nextBucketIndex;
-        private int nextBucketListIndex = -1;
-
-        public MyMapIterator() {
-            nextEntity = findNextEntity();
-        }
+        // iterator of the bucket holding the next entity, and of the bucket the last entity came from
+        private Iterator<Entity<K, V>> nextBucketIterator;
+        private Iterator<Entity<K, V>> currentBucketIterator;
+        private boolean canBeRemoved;
 
         @Override
         public boolean hasNext() {
-            return nextEntity != null;
+            while (nextBucketIterator == null || !nextBucketIterator.hasNext()) {
+                int bucketCount = buckets.length + (oldBuckets == null ? 0 : oldBuckets.length);
+                if (nextBucketIndex >= bucketCount) {
+                    return false;
+                }
+                Bucket bucket = nextBucketIndex < buckets.length
+                        ? buckets[nextBucketIndex] : oldBuckets[nextBucketIndex - buckets.length];
+                nextBucketIndex++;
+                nextBucketIterator = bucket == null ? null : bucket.iterator();
+            }
+            return true;
         }
 
         @Override
@@ -158,42 +392,431 @@ public class MyMap<K, V> implements Map<K, V> {
             if (!hasNext()) {
                 throw new NoSuchElementException("No more entities in the map");
             }
-            currentEntity = nextEntity;
-            nextEntity = findNextEntity();
+            currentBucketIterator = nextBucketIterator;
             canBeRemoved = true;
-            return currentEntity;
+            return currentBucketIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            currentBucketIterator.remove();
+            size--;
+            canBeRemoved = false;
+        }
+    }
+
+    @Override
+    public Spliterator<Entity<K, V>> spliterator() {
+        return new MyMapSpliterator(buckets, oldBuckets, 0,
+                buckets.length + (oldBuckets == null ? 0 : oldBuckets.length), size, true);
+    }
+
+    // splits the range of buckets, the new ones followed by the ones not yet moved from the old array;
+    // only the whole map knows its exact size, the parts get half the estimate of their parent
+    private class MyMapSpliterator implements Spliterator<Entity<K, V>> {
+        private final Bucket[] newBuckets;
+        private final Bucket[] notMovedBuckets;
+        private int index;
+        private final int fence;
+        private long estimatedSize;
+        private boolean exactSize;
+        private Iterator<Entity<K, V>> bucketIterator;
+
+        private MyMapSpliterator(Bucket[] newBuckets, Bucket[] notMovedBuckets, int index, int fence,
+                                 long estimatedSize, boolean exactSize) {
+            this.newBuckets = newBuckets;
+            this.notMovedBuckets = notMovedBuckets;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.exactSize = exactSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entity<K, V>> action) {
+            Objects.requireNonNull(action);
+            while (bucketIterator == null || !bucketIterator.hasNext()) {
+                if (index >= fence) {
+                    return false;
+                }
+                Bucket bucket = bucketAt(index++);
+                bucketIterator = bucket == null ? null : bucket.iterator();
+            }
+            action.accept(bucketIterator.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entity<K, V>> action) {
+            Objects.requireNonNull(action);
+            if (bucketIterator != null) {
+                bucketIterator.forEachRemaining(action);
+                bucketIterator = null;
+            }
+            for (; index < fence; index++) {
+                Bucket bucket = bucketAt(index);
+                if (bucket != null) {
+                    for (Entity<K, V> kvEntity : bucket) {
+                        action.accept(kvEntity);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Entity<K, V>> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (bucketIterator != null || middle <= index) {
+                return null;
+            }
+            estimatedSize >>>= 1;
+            exactSize = false;
+            Spliterator<Entity<K, V>> prefix = new MyMapSpliterator(newBuckets, notMovedBuckets,
+                    index, middle, estimatedSize, false);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return (exactSize ? SIZED : 0) | DISTINCT | NONNULL;
+        }
+
+        private Bucket bucketAt(int index) {
+            return index < newBuckets.length ? newBuckets[index] : notMovedBuckets[index - newBuckets.length];
+        }
+    }
+
+    private abstract class Bucket implements Iterable<Entity<K, V>> {
+        abstract MyEntity find(int hash, K key);
+
+        abstract MyEntity remove(int hash, K key);
+
+        // the key must not be in the bucket yet
+        abstract void add(MyEntity entity);
+
+        abstract int size();
+    }
+
+    private class ListBucket extends Bucket {
+        private final MyArrayList<Entity<K, V>> entities;
+
+        private ListBucket() {
+            entities = new MyArrayList<>(2);
+        }
+
+        private ListBucket(Bucket bucket) {
+            entities = new MyArrayList<>(bucket.size() + 1);
+            for (Entity<K, V> kvEntity : bucket) {
+                entities.add(kvEntity);
+            }
+        }
+
+        @Override
+        MyEntity find(int hash, K key) {
+            int index = indexOf(hash, key);
+            return index < 0 ? null : (MyEntity) entities.get(index);
+        }
+
+        @Override
+        MyEntity remove(int hash, K key) {
+            int index = indexOf(hash, key);
+            return index < 0 ? null : (MyEntity) entities.remove(index);
+        }
+
+        private int indexOf(int hash, K key) {
+            for (int i = 0; i < entities.size(); i++) {
+                MyEntity kvEntity = (MyEntity) entities.get(i);
+                if (kvEntity.hash == hash && keysEqual(key, kvEntity.key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void add(MyEntity entity) {
+            entities.add(entity);
+        }
+
+        @Override
+        int size() {
+            return entities.size();
+        }
+
+        @Override
+        public Iterator<Entity<K, V>> iterator() {
+            return entities.iterator();
+        }
+    }
+
+    // AVL tree ordered by hash, then by the natural order of the keys or the order of the hashing strategy,
+    // keys that can't be ordered (compared as 0) are looked up in both subtrees
+    private class TreeBucket extends Bucket {
+        private TreeNode root;
+        private int size;
+
+        private TreeBucket(Bucket bucket) {
+            for (Entity<K, V> kvEntity : bucket) {
+                add((MyEntity) kvEntity);
+            }
         }
 
-        private Entity<K, V> findNextEntity() {
-            nextBucketListIndex++;
-            for (int i = nextBucketIndex; i < buckets.length; i++) {
-                if (buckets[i] != null) {
-                    for (int j = nextBucketListIndex; j < buckets[i].size(); j++) {
-                        nextBucketIndex = i;
-                        nextBucketListIndex = j;
-                        return buckets[i].get(j);
+        @Override
+        MyEntity find(int hash, K key) {
+            TreeNode node = findNode(root, hash, key);
+            return node == null ? null : node.entity;
+        }
+
+        @Override
+        MyEntity remove(int hash, K key) {
+            TreeNode node = findNode(root, hash, key);
+            if (node == null) {
+                return null;
+            }
+            MyEntity kvEntity = node.entity;
+            removeNode(node);
+            return kvEntity;
+        }
+
+        private TreeNode findNode(TreeNode node, int hash, K key) {
+            while (node != null) {
+                MyEntity kvEntity = node.entity;
+                int comparison = compareKeys(hash, key, kvEntity.hash, kvEntity.key);
+                if (comparison < 0) {
+                    node = node.left;
+                } else if (comparison > 0) {
+                    node = node.right;
+                } else if (keysEqual(key, kvEntity.key)) {
+                    return node;
+                } else {
+                    TreeNode found = findNode(node.right, hash, key);
+                    if (found != null) {
+                        return found;
                     }
-                    nextBucketListIndex = 0;
+                    node = node.left;
                 }
             }
             return null;
         }
 
         @Override
-        public void remove() {
-            if (!canBeRemoved) {
-                throw new IllegalStateException("No active entity for the iterator");
+        void add(MyEntity entity) {
+            TreeNode newNode = new TreeNode(entity);
+            size++;
+            if (root == null) {
+                root = newNode;
+                return;
             }
-            findOrRemoveEntityByKey(currentEntity.getKey(), true);
-            canBeRemoved = false;
+            TreeNode parent = root;
+            while (true) {
+                MyEntity kvEntity = parent.entity;
+                int comparison = compareKeys(entity.hash, entity.key, kvEntity.hash, kvEntity.key);
+                if (comparison == 0) {
+                    comparison = System.identityHashCode(entity.key) <= System.identityHashCode(kvEntity.key) ? -1 : 1;
+                }
+                TreeNode child = comparison < 0 ? parent.left : parent.right;
+                if (child == null) {
+                    if (comparison < 0) {
+                        parent.left = newNode;
+                    } else {
+                        parent.right = newNode;
+                    }
+                    newNode.parent = parent;
+                    break;
+                }
+                parent = child;
+            }
+            rebalance(parent);
+        }
+
+        private void removeNode(TreeNode node) {
+            if (node.left != null && node.right != null) {
+                TreeNode successor = leftmost(node.right);
+                node.entity = successor.entity;
+                node = successor;
+            }
+            TreeNode replacement = node.left != null ? node.left : node.right;
+            TreeNode parent = node.parent;
+            if (replacement != null) {
+                replacement.parent = parent;
+            }
+            replaceChild(parent, node, replacement);
+            rebalance(parent);
+            size--;
+        }
+
+        private void rebalance(TreeNode node) {
+            while (node != null) {
+                int balance = height(node.left) - height(node.right);
+                if (balance > 1) {
+                    if (height(node.left.left) < height(node.left.right)) {
+                        rotateLeft(node.left);
+                    }
+                    node = rotateRight(node);
+                } else if (balance < -1) {
+                    if (height(node.right.right) < height(node.right.left)) {
+                        rotateRight(node.right);
+                    }
+                    node = rotateLeft(node);
+                } else {
+                    updateHeight(node);
+                }
+                node = node.parent;
+            }
+        }
+
+        private TreeNode rotateLeft(TreeNode node) {
+            TreeNode pivot = node.right;
+            node.right = pivot.left;
+            if (pivot.left != null) {
+                pivot.left.parent = node;
+            }
+            pivot.parent = node.parent;
+            replaceChild(node.parent, node, pivot);
+            pivot.left = node;
+            node.parent = pivot;
+            updateHeight(node);
+            updateHeight(pivot);
+            return pivot;
+        }
+
+        private TreeNode rotateRight(TreeNode node) {
+            TreeNode pivot = node.left;
+            node.left = pivot.right;
+            if (pivot.right != null) {
+                pivot.right.parent = node;
+            }
+            pivot.parent = node.parent;
+            replaceChild(node.parent, node, pivot);
+            pivot.right = node;
+            node.parent = pivot;
+            updateHeight(node);
+            updateHeight(pivot);
+            return pivot;
+        }
+
+        private void replaceChild(TreeNode parent, TreeNode oldChild, TreeNode newChild) {
+            if (parent == null) {
+                root = newChild;
+            } else if (parent.left == oldChild) {
+                parent.left = newChild;
+            } else {
+                parent.right = newChild;
+            }
+        }
+
+        private void updateHeight(TreeNode node) {
+            node.height = Math.max(height(node.left), height(node.right)) + 1;
+        }
+
+        private int height(TreeNode node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private TreeNode leftmost(TreeNode node) {
+            while (node != null && node.left != null) {
+                node = node.left;
+            }
+            return node;
+        }
+
+        private TreeNode successor(TreeNode node) {
+            if (node.right != null) {
+                return leftmost(node.right);
+            }
+            TreeNode parent = node.parent;
+            while (parent != null && node == parent.right) {
+                node = parent;
+                parent = parent.parent;
+            }
+            return parent;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entity<K, V>> iterator() {
+            return new TreeBucketIterator();
+        }
+
+        private class TreeBucketIterator implements Iterator<Entity<K, V>> {
+            private TreeNode nextNode = leftmost(root);
+            private TreeNode currentNode;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public Entity<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                currentNode = nextNode;
+                nextNode = successor(nextNode);
+                return currentNode.entity;
+            }
+
+            @Override
+            public void remove() {
+                if (currentNode == null) {
+                    throw new IllegalStateException("No active entity for the iterator");
+                }
+                // a node with two children takes over the entity of its successor, which is the next one
+                if (currentNode.left != null && currentNode.right != null) {
+                    nextNode = currentNode;
+                }
+                removeNode(currentNode);
+                currentNode = null;
+            }
+        }
+    }
+
+    private class TreeNode {
+        private MyEntity entity;
+        private TreeNode left;
+        private TreeNode right;
+        private TreeNode parent;
+        private int height = 1;
+
+        private TreeNode(MyEntity entity) {
+            this.entity = entity;
+        }
+    }
+
+    // 0 means the keys can't be ordered, the caller has to fall back to equals();
+    // with a hashing strategy the natural order may disagree with equality, so the strategy's own order is used
+    private int compareKeys(int hash1, K key1, int hash2, K key2) {
+        if (hash1 != hash2) {
+            return hash1 < hash2 ? -1 : 1;
+        }
+        if (hashingStrategy == null) {
+            return HashingStrategies.compareNaturally(key1, key2);
         }
+        Comparator<? super K> comparator = hashingStrategy.comparator();
+        return comparator == null ? 0 : comparator.compare(key1, key2);
     }
 
     private class MyEntity implements Entity<K, V> {
+        private final int hash;
         private final K key;
         private V value;
 
-        public MyEntity(K key, V value) {
+        public MyEntity(int hash, K key, V value) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
         }
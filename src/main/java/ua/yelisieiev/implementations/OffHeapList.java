@@ -0,0 +1,329 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Codec;
+import ua.yelisieiev.interfaces.List;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+// list of values encoded by a codec into direct memory, the heap only holds the chunk buffers
+// and, for values of varying size, a primitive array of record addresses;
+// fixed-size values sit in slots addressed by index: a presence byte followed by the value,
+// other values are records of an int length (-1 for null) and the bytes, appended on every add or set;
+// records left behind by set and remove are reclaimed once they take more space than the live ones
+public class OffHeapList<V> implements List<V>, AutoCloseable {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Codec<V> codec;
+    private final int chunkSize;
+    private OffHeapStore store;
+    private int size;
+
+    // fixed layout
+    private final int slotSize;
+    private final int slotsPerChunk;
+    private int allocatedSlots;
+
+    // variable layout
+    private final LongArrayList addresses;
+    private long garbageBytes;
+
+    public OffHeapList(Codec<V> codec, int chunkSize) {
+        this.codec = codec;
+        this.chunkSize = chunkSize;
+        int fixedSize = codec.fixedSize();
+        if (fixedSize >= 0) {
+            slotSize = fixedSize + 1;
+            slotsPerChunk = Math.max(1, chunkSize / slotSize);
+            addresses = null;
+            store = new OffHeapStore(slotsPerChunk * slotSize);
+        } else {
+            slotSize = 0;
+            slotsPerChunk = 0;
+            addresses = new LongArrayList();
+            store = new OffHeapStore(chunkSize);
+        }
+    }
+
+    public OffHeapList(Codec<V> codec) {
+        this(codec, DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public void add(V value) {
+        add(value, size);
+    }
+
+    @Override
+    public void add(V value, int index) {
+        checkIndexInBounds(index, size);
+        if (addresses == null) {
+            if (size == allocatedSlots) {
+                store.allocate(slotSize);
+                allocatedSlots++;
+            }
+            shiftSlotsRight(index);
+            writeSlot(index, value);
+        } else {
+            addresses.add(writeRecord(value), index);
+        }
+        size++;
+    }
+
+    @Override
+    public V remove(int index) {
+        checkIndexInBounds(index);
+        V removedValue = get(index);
+        if (addresses == null) {
+            shiftSlotsLeft(index);
+        } else {
+            garbageBytes += recordSize(addresses.remove(index));
+            compactIfNeeded();
+        }
+        size--;
+        return removedValue;
+    }
+
+    @Override
+    public V get(int index) {
+        checkIndexInBounds(index);
+        if (addresses == null) {
+            long address = slotAddress(index);
+            ByteBuffer chunk = store.chunk(address);
+            int offset = OffHeapStore.offset(address);
+            return chunk.get(offset) == 0 ? null : codec.decode(chunk, offset + 1, slotSize - 1);
+        }
+        long address = addresses.get(index);
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        int length = chunk.getInt(offset);
+        return length < 0 ? null : codec.decode(chunk, offset + LENGTH_BYTES, length);
+    }
+
+    @Override
+    public V set(V value, int index) {
+        checkIndexInBounds(index);
+        V oldValue = get(index);
+        if (addresses == null) {
+            writeSlot(index, value);
+        } else {
+            garbageBytes += recordSize(addresses.set(writeRecord(value), index));
+            compactIfNeeded();
+        }
+        return oldValue;
+    }
+
+    // the encoded bytes of the element without decoding or copying them, null for a null element;
+    // valid until the list is changed or closed
+    public ByteBuffer view(int index) {
+        checkIndexInBounds(index);
+        long address;
+        int offset;
+        int length;
+        if (addresses == null) {
+            address = slotAddress(index);
+            offset = OffHeapStore.offset(address) + 1;
+            length = store.chunk(address).get(offset - 1) == 0 ? -1 : slotSize - 1;
+        } else {
+            address = addresses.get(index);
+            offset = OffHeapStore.offset(address) + LENGTH_BYTES;
+            length = store.chunk(address).getInt(offset - LENGTH_BYTES);
+        }
+        return length < 0 ? null : store.chunk(address).slice(offset, length).asReadOnlyBuffer();
+    }
+
+    @Override
+    public void clear() {
+        store.free();
+        store = new OffHeapStore(addresses == null ? slotsPerChunk * slotSize : chunkSize);
+        allocatedSlots = 0;
+        if (addresses != null) {
+            addresses.clear();
+        }
+        garbageBytes = 0;
+        size = 0;
+    }
+
+    // frees the memory, the list can't be used afterwards
+    @Override
+    public void close() {
+        store.free();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(V value) {
+        for (int i = 0; i < size; i++) {
+            V element = get(i);
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        for (int i = size - 1; i >= 0; i--) {
+            V element = get(i);
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            stringJoiner.add(String.valueOf(get(i)));
+        }
+        return stringJoiner.toString();
+    }
+
+    private long slotAddress(int index) {
+        return (long) (index / slotsPerChunk) << 32 | (index % slotsPerChunk) * slotSize;
+    }
+
+    private void writeSlot(int index, V value) {
+        long address = slotAddress(index);
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        chunk.put(offset, (byte) (value == null ? 0 : 1));
+        if (value != null) {
+            codec.encode(value, chunk, offset + 1);
+        }
+    }
+
+    // moves the slots [index, size) one slot up, a chunk at a time
+    private void shiftSlotsRight(int index) {
+        int end = size;
+        while (end > index) {
+            if (end % slotsPerChunk == 0) {
+                // the last slot of a chunk goes to the start of the next one
+                store.copy(slotAddress(end - 1), slotAddress(end), slotSize);
+                end--;
+            } else {
+                int start = Math.max(index, (end - 1) / slotsPerChunk * slotsPerChunk);
+                store.copy(slotAddress(start), slotAddress(start + 1), (end - start) * slotSize);
+                end = start;
+            }
+        }
+    }
+
+    // moves the slots (index, size) one slot down, a chunk at a time
+    private void shiftSlotsLeft(int index) {
+        int start = index + 1;
+        while (start < size) {
+            if (start % slotsPerChunk == 0) {
+                store.copy(slotAddress(start), slotAddress(start - 1), slotSize);
+                start++;
+            } else {
+                int end = Math.min(size, (start / slotsPerChunk + 1) * slotsPerChunk);
+                store.copy(slotAddress(start), slotAddress(start - 1), (end - start) * slotSize);
+                start = end;
+            }
+        }
+    }
+
+    private long writeRecord(V value) {
+        int length = value == null ? -1 : codec.encodedSize(value);
+        long address = store.allocate(LENGTH_BYTES + Math.max(0, length));
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        chunk.putInt(offset, length);
+        if (value != null) {
+            codec.encode(value, chunk, offset + LENGTH_BYTES);
+        }
+        return address;
+    }
+
+    private int recordSize(long address) {
+        return LENGTH_BYTES + Math.max(0, store.chunk(address).getInt(OffHeapStore.offset(address)));
+    }
+
+    // copies the live records into fresh chunks when the dead ones outweigh them
+    private void compactIfNeeded() {
+        if (garbageBytes <= chunkSize || garbageBytes <= store.allocatedBytes() - garbageBytes) {
+            return;
+        }
+        OffHeapStore newStore = new OffHeapStore(chunkSize);
+        for (int i = 0; i < addresses.size(); i++) {
+            long address = addresses.get(i);
+            int recordSize = recordSize(address);
+            long newAddress = newStore.allocate(recordSize);
+            newStore.chunk(newAddress).put(OffHeapStore.offset(newAddress),
+                    store.chunk(address), OffHeapStore.offset(address), recordSize);
+            addresses.set(newAddress, i);
+        }
+        store.free();
+        store = newStore;
+        garbageBytes = 0;
+    }
+
+    private void checkIndexInBounds(int index) {
+        checkIndexInBounds(index, size - 1);
+    }
+
+    private void checkIndexInBounds(int index, int upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new MyIterator();
+    }
+
+    private class MyIterator implements Iterator<V> {
+        private int currentIndex = -1;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size - 1;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            canBeRemoved = true;
+            currentIndex++;
+            return get(currentIndex);
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            OffHeapList.this.remove(currentIndex);
+            currentIndex--;
+            canBeRemoved = false;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Codec;
+import ua.yelisieiev.interfaces.Map;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// hash map of encoded keys and values in direct memory: an entry is a record of the key length,
+// the value length (-1 for null), the key bytes and the value bytes; keys are hashed and compared
+// by their encoded bytes, so two keys are the same if their codec writes them the same way;
+// the table is a primitive array of record addresses with linear probing and tombstones,
+// entries never move, so the iterator can remove while walking the table
+public class OffHeapMap<K, V> implements Map<K, V>, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final long EMPTY = -1;
+    private static final long TOMBSTONE = -2;
+
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final int chunkSize;
+    private OffHeapStore store;
+    private long[] addresses;
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private int tombstones;
+    private int growThreshold;
+    private long garbageBytes;
+    // the encoded key of the last lookup
+    private ByteBuffer keyBuffer = ByteBuffer.allocate(64);
+    private int keyLength;
+
+    public OffHeapMap(Codec<K> keyCodec, Codec<V> valueCodec, int capacity, int chunkSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.chunkSize = chunkSize;
+        store = new OffHeapStore(chunkSize);
+        allocate(tableSizeFor((int) Math.ceil(capacity / LOAD_FACTOR)));
+    }
+
+    public OffHeapMap(Codec<K> keyCodec, Codec<V> valueCodec, int capacity) {
+        this(keyCodec, valueCodec, capacity, DEFAULT_CHUNK_SIZE);
+    }
+
+    public OffHeapMap(Codec<K> keyCodec, Codec<V> valueCodec) {
+        this(keyCodec, valueCodec, DEFAULT_CAPACITY, DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int hash = encodeKey(key);
+        int slot = findSlot(hash);
+        if (slot >= 0) {
+            long oldAddress = addresses[slot];
+            V oldValue = readValue(oldAddress);
+            addresses[slot] = writeRecord(value);
+            garbageBytes += recordSize(oldAddress);
+            compactIfNeeded();
+            return oldValue;
+        }
+        slot = ~slot;
+        if (addresses[slot] == TOMBSTONE) {
+            tombstones--;
+        }
+        addresses[slot] = writeRecord(value);
+        hashes[slot] = hash;
+        if (++size + tombstones >= growThreshold) {
+            rehash();
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = findSlot(encodeKey(key));
+        return slot >= 0 ? readValue(addresses[slot]) : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(encodeKey(key)) >= 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        int slot = findSlot(encodeKey(key));
+        if (slot < 0) {
+            return null;
+        }
+        V oldValue = readValue(addresses[slot]);
+        removeAtSlot(slot);
+        return oldValue;
+    }
+
+    // the encoded bytes of the value without decoding or copying them, null if the key is absent
+    // or its value is null; valid until the map is changed or closed
+    public ByteBuffer view(K key) {
+        int slot = findSlot(encodeKey(key));
+        if (slot < 0) {
+            return null;
+        }
+        long address = addresses[slot];
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        int valueLength = chunk.getInt(offset + Integer.BYTES);
+        if (valueLength < 0) {
+            return null;
+        }
+        return chunk.slice(offset + HEADER_BYTES + chunk.getInt(offset), valueLength).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        store.free();
+        store = new OffHeapStore(chunkSize);
+        Arrays.fill(addresses, EMPTY);
+        size = 0;
+        tombstones = 0;
+        garbageBytes = 0;
+    }
+
+    // frees the memory, the map can't be used afterwards
+    @Override
+    public void close() {
+        store.free();
+    }
+
+    // encodes the key into the key buffer and returns the hash of its bytes
+    private int encodeKey(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+        keyLength = keyCodec.encodedSize(key);
+        if (keyLength > keyBuffer.capacity()) {
+            keyBuffer = ByteBuffer.allocate(Math.max(keyLength, keyBuffer.capacity() * 2));
+        }
+        keyCodec.encode(key, keyBuffer, 0);
+        int hash = 1;
+        for (int i = 0; i < keyLength; i++) {
+            hash = 31 * hash + keyBuffer.get(i);
+        }
+        return hash;
+    }
+
+    // returns the slot holding the encoded key, or ~(slot to insert it into) if the key is absent
+    private int findSlot(int hash) {
+        int slot = spread(hash) & mask;
+        int firstTombstone = -1;
+        long address;
+        while ((address = addresses[slot]) != EMPTY) {
+            if (address == TOMBSTONE) {
+                if (firstTombstone < 0) {
+                    firstTombstone = slot;
+                }
+            } else if (hashes[slot] == hash && keyEquals(address)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~(firstTombstone >= 0 ? firstTombstone : slot);
+    }
+
+    private boolean keyEquals(long address) {
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        if (chunk.getInt(offset) != keyLength) {
+            return false;
+        }
+        return chunk.slice(offset + HEADER_BYTES, keyLength).equals(keyBuffer.slice(0, keyLength));
+    }
+
+    private void removeAtSlot(int slot) {
+        garbageBytes += recordSize(addresses[slot]);
+        addresses[slot] = TOMBSTONE;
+        tombstones++;
+        size--;
+        compactIfNeeded();
+    }
+
+    // writes the key from the key buffer along with the value
+    private long writeRecord(V value) {
+        int valueLength = value == null ? -1 : valueCodec.encodedSize(value);
+        long address = store.allocate(HEADER_BYTES + keyLength + Math.max(0, valueLength));
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        chunk.putInt(offset, keyLength);
+        chunk.putInt(offset + Integer.BYTES, valueLength);
+        chunk.put(offset + HEADER_BYTES, keyBuffer, 0, keyLength);
+        if (value != null) {
+            valueCodec.encode(value, chunk, offset + HEADER_BYTES + keyLength);
+        }
+        return address;
+    }
+
+    private K readKey(long address) {
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        return keyCodec.decode(chunk, offset + HEADER_BYTES, chunk.getInt(offset));
+    }
+
+    private V readValue(long address) {
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        int valueLength = chunk.getInt(offset + Integer.BYTES);
+        if (valueLength < 0) {
+            return null;
+        }
+        return valueCodec.decode(chunk, offset + HEADER_BYTES + chunk.getInt(offset), valueLength);
+    }
+
+    private int recordSize(long address) {
+        ByteBuffer chunk = store.chunk(address);
+        int offset = OffHeapStore.offset(address);
+        return HEADER_BYTES + chunk.getInt(offset) + Math.max(0, chunk.getInt(offset + Integer.BYTES));
+    }
+
+    // copies the live records into fresh chunks when the dead ones outweigh them, the slots stay
+    private void compactIfNeeded() {
+        if (garbageBytes <= chunkSize || garbageBytes <= store.allocatedBytes() - garbageBytes) {
+            return;
+        }
+        OffHeapStore newStore = new OffHeapStore(chunkSize);
+        for (int slot = 0; slot < addresses.length; slot++) {
+            long address = addresses[slot];
+            if (address >= 0) {
+                int recordSize = recordSize(address);
+                long newAddress = newStore.allocate(recordSize);
+                newStore.chunk(newAddress).put(OffHeapStore.offset(newAddress),
+                        store.chunk(address), OffHeapStore.offset(address), recordSize);
+                addresses[slot] = newAddress;
+            }
+        }
+        store.free();
+        store = newStore;
+        garbageBytes = 0;
+    }
+
+    // drops the tombstones, and doubles the table if it is more than half full of live entries
+    private void rehash() {
+        long[] oldAddresses = addresses;
+        int[] oldHashes = hashes;
+        int capacity = oldAddresses.length;
+        if (size >= capacity / 2) {
+            if (capacity == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Map can't grow any more");
+            }
+            capacity <<= 1;
+        }
+        allocate(capacity);
+        for (int i = 0; i < oldAddresses.length; i++) {
+            if (oldAddresses[i] >= 0) {
+                int slot = spread(oldHashes[i]) & mask;
+                while (addresses[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                addresses[slot] = oldAddresses[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+        tombstones = 0;
+    }
+
+    private void allocate(int capacity) {
+        addresses = new long[capacity];
+        Arrays.fill(addresses, EMPTY);
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        growThreshold = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new OffHeapMapIterator();
+    }
+
+    private class OffHeapMapIterator implements Iterator<Entity<K, V>> {
+        private int nextSlot = -1;
+        private int currentSlot = -1;
+        private int remaining = size;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            do {
+                nextSlot++;
+            } while (addresses[nextSlot] < 0);
+            remaining--;
+            currentSlot = nextSlot;
+            canBeRemoved = true;
+            long address = addresses[currentSlot];
+            return new DecodedEntity(readKey(address), readValue(address));
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            removeAtSlot(currentSlot);
+            canBeRemoved = false;
+        }
+    }
+
+    // decoded copy of an entry, setting the value writes it back into the map
+    private class DecodedEntity implements Entity<K, V> {
+        private final K key;
+        private V value;
+
+        private DecodedEntity(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            this.value = value;
+            put(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return "OffHeapMapEntity{" +
+                    "key=" + key +
+                    ", value=" + value +
+                    '}';
+        }
+    }
+}
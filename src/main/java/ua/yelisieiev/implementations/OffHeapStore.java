@@ -0,0 +1,110 @@
+package ua.yelisieiev.implementations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// append-only byte records in chunks of direct memory, outside of the heap the GC has to mark;
+// a record never crosses a chunk boundary, its address packs the chunk number and the offset in it
+class OffHeapStore {
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final int chunkSize;
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+    private int chunkCount;
+    private int writeOffset;
+    private long allocatedBytes;
+    private boolean closed;
+
+    OffHeapStore(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    // reserves the bytes of a new record, a record bigger than the chunk size gets a chunk of its own
+    long allocate(int length) {
+        checkOpen();
+        if (chunkCount == 0 || writeOffset + length > chunks[chunkCount - 1].capacity()) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(Math.max(chunkSize, length));
+            writeOffset = 0;
+        }
+        long address = (long) (chunkCount - 1) << 32 | writeOffset;
+        writeOffset += length;
+        allocatedBytes += length;
+        return address;
+    }
+
+    ByteBuffer chunk(long address) {
+        checkOpen();
+        return chunks[(int) (address >>> 32)];
+    }
+
+    static int offset(long address) {
+        return (int) address;
+    }
+
+    // the ranges must lie within chunks, overlapping ranges are copied correctly
+    void copy(long from, long to, int length) {
+        chunk(to).put(offset(to), chunk(from), offset(from), length);
+    }
+
+    long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    // gives the memory back right away instead of waiting for the buffers to be collected
+    void free() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int i = 0; i < chunkCount; i++) {
+            freeBuffer(chunks[i]);
+        }
+        chunks = null;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Off-heap memory is already freed");
+        }
+    }
+
+    // unmaps memory-mapped buffers as well
+    static void freeBuffer(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't free a direct buffer", e);
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // without it the memory is given back when the buffers are garbage collected
+            return null;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// keys and values live in two parallel arrays, collisions are resolved with linear probing
+// removal uses backward shift, so there are no tombstones and probe chains never degrade
+public class OpenAddressingMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    public static final double DEFAULT_GROW_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int growThreshold;
+    private final double growFactor;
+
+    public OpenAddressingMap(int capacity, double growFactor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (growFactor <= 0 || growFactor >= 1) {
+            throw new IllegalArgumentException("Grow factor must be between 0 and 1");
+        }
+        this.growFactor = growFactor;
+        allocate(tableSizeFor((int) Math.ceil(capacity / growFactor)));
+    }
+
+    public OpenAddressingMap(int capacity) {
+        this(capacity, DEFAULT_GROW_FACTOR);
+    }
+
+    public OpenAddressingMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROW_FACTOR);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            V oldValue = (V) values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        slot = ~slot;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= growThreshold) {
+            growTable();
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = findSlot(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V oldValue = (V) values[slot];
+        removeAtSlot(slot, null);
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // returns the slot holding the key, or ~(first free slot) if the key is absent
+    private int findSlot(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+        Object[] keys = this.keys;
+        int slot = spread(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[slot]) != null) {
+            if (current == key || current.equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private void removeAtSlot(int slot, OpenAddressingMapIterator iterator) {
+        // backward shift: pull every following entry of the probe chain that may live in the hole
+        int hole = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            Object currentKey = keys[current];
+            if (currentKey == null) {
+                break;
+            }
+            int home = spread(currentKey.hashCode()) & mask;
+            // entry can move only if its home slot is not inside (hole, current]
+            if (hole <= current ? hole >= home || home > current : hole >= home && home > current) {
+                keys[hole] = currentKey;
+                values[hole] = values[current];
+                if (iterator != null) {
+                    iterator.entryShifted(current, hole);
+                }
+                hole = current;
+            }
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        size--;
+    }
+
+    private void growTable() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Map can't grow any more");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int slot = spread(key.hashCode()) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        growThreshold = Math.min(capacity - 1, (int) (capacity * growFactor));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    // linear probing is sensitive to clustered hashes, so mix the bits before masking
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public Iterator<Entity<K, V>> iterator() {
+        return new OpenAddressingMapIterator();
+    }
+
+    // walks the table from the end, so backward shifts during remove() only move entries
+    // into already visited slots - except for entries wrapping around from the table start,
+    // which are remembered and returned at the end
+    private class OpenAddressingMapIterator implements Iterator<Entity<K, V>> {
+        private int nextSlot = keys.length;
+        private int currentSlot = -1;
+        private int remaining = size;
+        private MyArrayList<Object> wrapped;
+        private int wrappedIndex;
+        private Entity<K, V> currentEntity;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Entity<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            remaining--;
+            canBeRemoved = true;
+            while (--nextSlot >= 0) {
+                if (keys[nextSlot] != null) {
+                    currentSlot = nextSlot;
+                    currentEntity = new SlotEntity(currentSlot);
+                    return currentEntity;
+                }
+            }
+            currentSlot = -1;
+            K key = (K) wrapped.get(wrappedIndex++);
+            V value = (V) wrapped.get(wrappedIndex++);
+            currentEntity = new DetachedEntity(key, value);
+            return currentEntity;
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            if (currentSlot >= 0) {
+                removeAtSlot(currentSlot, this);
+            } else {
+                OpenAddressingMap.this.remove(currentEntity.getKey());
+            }
+            canBeRemoved = false;
+        }
+
+        private void entryShifted(int from, int to) {
+            if (from < currentSlot && to >= currentSlot) {
+                if (wrapped == null) {
+                    wrapped = new MyArrayList<>(4);
+                }
+                wrapped.add(keys[to]);
+                wrapped.add(values[to]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<Entity<K, V>> spliterator() {
+        return new OpenAddressingMapSpliterator(0, keys.length, size, true);
+    }
+
+    // splits the range of slots, only the whole table knows its exact size
+    private class OpenAddressingMapSpliterator implements Spliterator<Entity<K, V>> {
+        private int slot;
+        private final int fence;
+        private long estimatedSize;
+        private boolean exactSize;
+
+        private OpenAddressingMapSpliterator(int slot, int fence, long estimatedSize, boolean exactSize) {
+            this.slot = slot;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.exactSize = exactSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entity<K, V>> action) {
+            Objects.requireNonNull(action);
+            for (; slot < fence; slot++) {
+                if (keys[slot] != null) {
+                    action.accept(new SlotEntity(slot++));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<Entity<K, V>> trySplit() {
+            int middle = (slot + fence) >>> 1;
+            if (middle <= slot) {
+                return null;
+            }
+            estimatedSize >>>= 1;
+            exactSize = false;
+            Spliterator<Entity<K, V>> prefix = new OpenAddressingMapSpliterator(slot, middle, estimatedSize, false);
+            slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return (exactSize ? SIZED : 0) | DISTINCT | NONNULL;
+        }
+    }
+
+    // entity view of a table slot, created only when the iterator hands it out
+    private class SlotEntity implements Entity<K, V> {
+        private final int slot;
+        private final K key;
+
+        private SlotEntity(int slot) {
+            this.slot = slot;
+            this.key = (K) keys[slot];
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            return get(key);
+        }
+
+        @Override
+        public void setValue(V value) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+            } else {
+                put(key, value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "OpenAddressingMapEntity{" +
+                    "key=" + key +
+                    ", value=" + getValue() +
+                    '}';
+        }
+    }
+
+    private class DetachedEntity implements Entity<K, V> {
+        private final K key;
+        private V value;
+
+        private DetachedEntity(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            this.value = value;
+            put(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return "OpenAddressingMapEntity{" +
+                    "key=" + key +
+                    ", value=" + value +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ua.yelisieiev.implementations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// long counters written by different threads, each on a cache line of its own, so a write to one
+// doesn't invalidate the line another thread reads its own counter from (false sharing);
+// the layout of fields isn't guaranteed and @Contended needs a JVM flag, but array elements are
+// contiguous, so the counters sit in one array 128 bytes apart, as adjacent lines are often fetched
+// in pairs; a line holds a counter at slot(line) and room for data of the same owner right after it
+final class PaddedCounters {
+    private static final int PAD = 16;
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] values;
+
+    PaddedCounters(int lines) {
+        // padding before the first line and after the last one too
+        values = new long[(lines + 1) * PAD];
+    }
+
+    static int slot(int line) {
+        return (line + 1) * PAD;
+    }
+
+    // the owner's own reads and writes
+    long getPlain(int slot) {
+        return values[slot];
+    }
+
+    void setPlain(int slot, long value) {
+        values[slot] = value;
+    }
+
+    long getAcquire(int slot) {
+        return (long) LONGS.getAcquire(values, slot);
+    }
+
+    long getVolatile(int slot) {
+        return (long) LONGS.getVolatile(values, slot);
+    }
+
+    void setRelease(int slot, long value) {
+        LONGS.setRelease(values, slot, value);
+    }
+
+    long compareAndExchange(int slot, long expected, long value) {
+        return (long) LONGS.compareAndExchange(values, slot, expected, value);
+    }
+}
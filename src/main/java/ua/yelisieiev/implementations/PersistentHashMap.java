@@ -0,0 +1,574 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Map;
+import ua.yelisieiev.interfaces.ReadableMap;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// immutable hash array mapped trie: every level takes the next 5 bits of the hash, a node keeps
+// only the present slots in one array, entities first and sub-nodes from the end (CHAMP layout);
+// with()/without() copy just the path to the changed entity and share the rest with the old map,
+// keys whose 32 bit hashes are all equal end up in a collision node at the bottom
+public class PersistentHashMap<K, V> implements ReadableMap<K, V> {
+    private static final int BITS = 5;
+    private static final int HASH_LENGTH = 32;
+    private static final Object NOT_FOUND = new Object();
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(new BitmapNode<>(null, 0, 0, new Object[0]), 0);
+
+    private final TrieNode<K, V> root;
+    private final int size;
+
+    private PersistentHashMap(TrieNode<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return PersistentHashMap.<K, V>empty().toBuilder();
+    }
+
+    // a map with the key mapped to the value, this one stays unchanged
+    public PersistentHashMap<K, V> with(K key, V value) {
+        Change<V> change = new Change<>();
+        TrieNode<K, V> newRoot = root.put(null, key, value, hash(key), 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, change.added ? size + 1 : size);
+    }
+
+    // a map without the key, this one stays unchanged
+    public PersistentHashMap<K, V> without(K key) {
+        Change<V> change = new Change<>();
+        TrieNode<K, V> newRoot = root.remove(null, key, hash(key), 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    // the builder starts from this map and never changes it
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(root, size);
+    }
+
+    @Override
+    public V get(K key) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? defaultValue : (V) value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Map.Entity<K, V>> iterator() {
+        return new TrieIterator<>(root, null);
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            throw new NullPointerException("Key can't be null");
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    // mutable map over the same trie: nodes it has created itself are updated in place, the others
+    // are copied once on the first change, so building a large map doesn't copy every path again
+    public static class Builder<K, V> implements Map<K, V> {
+        private TrieNode<K, V> root;
+        private int size;
+        // identity of the nodes this builder may change, replaced whenever the trie gets shared
+        private Object owner = new Object();
+
+        private Builder(TrieNode<K, V> root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        @Override
+        public V put(K key, V value) {
+            Change<V> change = new Change<>();
+            root = root.put(owner, key, value, hash(key), 0, change);
+            if (change.added) {
+                size++;
+            }
+            return change.oldValue;
+        }
+
+        @Override
+        public V remove(K key) {
+            Change<V> change = new Change<>();
+            root = root.remove(owner, key, hash(key), 0, change);
+            if (change.removed) {
+                size--;
+            }
+            return change.oldValue;
+        }
+
+        @Override
+        public V get(K key) {
+            Object value = root.find(key, hash(key), 0);
+            return value == NOT_FOUND ? null : (V) value;
+        }
+
+        @Override
+        public boolean containsKey(K key) {
+            return root.find(key, hash(key), 0) != NOT_FOUND;
+        }
+
+        @Override
+        public V getOrDefault(K key, V defaultValue) {
+            Object value = root.find(key, hash(key), 0);
+            return value == NOT_FOUND ? defaultValue : (V) value;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        // the builder stays usable, its next changes copy the nodes shared with the built map
+        public PersistentHashMap<K, V> build() {
+            owner = new Object();
+            return new PersistentHashMap<>(root, size);
+        }
+
+        // iterates over a snapshot, so changes made during the iteration don't disturb it
+        @Override
+        public Iterator<Entity<K, V>> iterator() {
+            owner = new Object();
+            return new TrieIterator<>(root, this);
+        }
+    }
+
+    // what a put/remove did, the builder needs it to keep its size
+    private static class Change<V> {
+        private boolean added;
+        private boolean removed;
+        private V oldValue;
+    }
+
+    private abstract static class TrieNode<K, V> {
+        // the value, or NOT_FOUND
+        abstract Object find(K key, int hash, int shift);
+
+        // return this if nothing changed
+        abstract TrieNode<K, V> put(Object owner, K key, V value, int hash, int shift, Change<V> change);
+
+        abstract TrieNode<K, V> remove(Object owner, K key, int hash, int shift, Change<V> change);
+
+        abstract int entityCount();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract int nodeCount();
+
+        abstract TrieNode<K, V> nodeAt(int index);
+    }
+
+    private static class BitmapNode<K, V> extends TrieNode<K, V> {
+        // null for the nodes of persistent maps
+        private final Object owner;
+        private int dataMap;
+        private int nodeMap;
+        // key and value pairs in the order of dataMap bits, then sub-nodes in the reverse order of nodeMap bits
+        private Object[] content;
+
+        private BitmapNode(Object owner, int dataMap, int nodeMap, Object[] content) {
+            this.owner = owner;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        Object find(K key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                return key.equals(content[2 * index]) ? content[2 * index + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(index(nodeMap, bit)).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        TrieNode<K, V> put(Object owner, K key, V value, int hash, int shift, Change<V> change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                K existingKey = (K) content[2 * index];
+                V existingValue = (V) content[2 * index + 1];
+                if (key.equals(existingKey)) {
+                    change.oldValue = existingValue;
+                    if (existingValue == value) {
+                        return this;
+                    }
+                    BitmapNode<K, V> node = editable(owner);
+                    node.content[2 * index + 1] = value;
+                    return node;
+                }
+                // two different keys in one slot go one level down
+                TrieNode<K, V> subNode = mergeEntities(owner, existingKey, existingValue, hash(existingKey),
+                        key, value, hash, shift + BITS);
+                change.added = true;
+                return migrateToNode(owner, bit, index, subNode);
+            }
+            if ((nodeMap & bit) != 0) {
+                int nodeIndex = index(nodeMap, bit);
+                TrieNode<K, V> subNode = nodeAt(nodeIndex);
+                TrieNode<K, V> newSubNode = subNode.put(owner, key, value, hash, shift + BITS, change);
+                if (newSubNode == subNode) {
+                    return this;
+                }
+                BitmapNode<K, V> node = editable(owner);
+                node.content[content.length - 1 - nodeIndex] = newSubNode;
+                return node;
+            }
+            change.added = true;
+            int index = index(dataMap, bit);
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, 2 * index);
+            newContent[2 * index] = key;
+            newContent[2 * index + 1] = value;
+            System.arraycopy(content, 2 * index, newContent, 2 * index + 2, content.length - 2 * index);
+            return update(owner, dataMap | bit, nodeMap, newContent);
+        }
+
+        @Override
+        TrieNode<K, V> remove(Object owner, K key, int hash, int shift, Change<V> change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                if (!key.equals(content[2 * index])) {
+                    return this;
+                }
+                change.removed = true;
+                change.oldValue = (V) content[2 * index + 1];
+                Object[] newContent = new Object[content.length - 2];
+                System.arraycopy(content, 0, newContent, 0, 2 * index);
+                System.arraycopy(content, 2 * index + 2, newContent, 2 * index, content.length - 2 * index - 2);
+                return update(owner, dataMap ^ bit, nodeMap, newContent);
+            }
+            if ((nodeMap & bit) != 0) {
+                int nodeIndex = index(nodeMap, bit);
+                TrieNode<K, V> subNode = nodeAt(nodeIndex);
+                TrieNode<K, V> newSubNode = subNode.remove(owner, key, hash, shift + BITS, change);
+                if (newSubNode == subNode) {
+                    return this;
+                }
+                // a sub-node left with a single entity is pulled up, so the trie stays as shallow as possible
+                if (newSubNode.nodeCount() == 0 && newSubNode.entityCount() == 1) {
+                    return migrateToData(owner, bit, nodeIndex, newSubNode.keyAt(0), newSubNode.valueAt(0));
+                }
+                BitmapNode<K, V> node = editable(owner);
+                node.content[content.length - 1 - nodeIndex] = newSubNode;
+                return node;
+            }
+            return this;
+        }
+
+        private TrieNode<K, V> migrateToNode(Object owner, int bit, int index, TrieNode<K, V> subNode) {
+            int newNodeMap = nodeMap | bit;
+            // sub-nodes are stored from the end, so the new one goes before the ones with higher bits
+            int nodePosition = content.length - 2 - index(newNodeMap, bit);
+            Object[] newContent = new Object[content.length - 1];
+            System.arraycopy(content, 0, newContent, 0, 2 * index);
+            System.arraycopy(content, 2 * index + 2, newContent, 2 * index, nodePosition - 2 * index);
+            newContent[nodePosition] = subNode;
+            System.arraycopy(content, nodePosition + 2, newContent, nodePosition + 1, content.length - nodePosition - 2);
+            return update(owner, dataMap ^ bit, newNodeMap, newContent);
+        }
+
+        private TrieNode<K, V> migrateToData(Object owner, int bit, int nodeIndex, K key, V value) {
+            int index = index(dataMap, bit);
+            int oldNodePosition = content.length - 1 - nodeIndex;
+            Object[] newContent = new Object[content.length + 1];
+            System.arraycopy(content, 0, newContent, 0, 2 * index);
+            newContent[2 * index] = key;
+            newContent[2 * index + 1] = value;
+            System.arraycopy(content, 2 * index, newContent, 2 * index + 2, oldNodePosition - 2 * index);
+            System.arraycopy(content, oldNodePosition + 1, newContent, oldNodePosition + 2,
+                    content.length - oldNodePosition - 1);
+            return update(owner, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        private BitmapNode<K, V> editable(Object owner) {
+            if (owner != null && this.owner == owner) {
+                return this;
+            }
+            return new BitmapNode<>(owner, dataMap, nodeMap, content.clone());
+        }
+
+        private BitmapNode<K, V> update(Object owner, int newDataMap, int newNodeMap, Object[] newContent) {
+            if (owner != null && this.owner == owner) {
+                dataMap = newDataMap;
+                nodeMap = newNodeMap;
+                content = newContent;
+                return this;
+            }
+            return new BitmapNode<>(owner, newDataMap, newNodeMap, newContent);
+        }
+
+        @Override
+        int entityCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        K keyAt(int index) {
+            return (K) content[2 * index];
+        }
+
+        @Override
+        V valueAt(int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        TrieNode<K, V> nodeAt(int index) {
+            return (TrieNode<K, V>) content[content.length - 1 - index];
+        }
+
+        private static int index(int bitmap, int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    private static <K, V> TrieNode<K, V> mergeEntities(Object owner, K key1, V value1, int hash1,
+                                                       K key2, V value2, int hash2, int shift) {
+        if (shift >= HASH_LENGTH) {
+            return new CollisionNode<>(hash1, new Object[]{key1, value1, key2, value2});
+        }
+        int bit1 = bit(hash1, shift);
+        int bit2 = bit(hash2, shift);
+        if (bit1 == bit2) {
+            TrieNode<K, V> subNode = mergeEntities(owner, key1, value1, hash1, key2, value2, hash2, shift + BITS);
+            return new BitmapNode<>(owner, 0, bit1, new Object[]{subNode});
+        }
+        Object[] content = Integer.compareUnsigned(bit1, bit2) < 0
+                ? new Object[]{key1, value1, key2, value2}
+                : new Object[]{key2, value2, key1, value1};
+        return new BitmapNode<>(owner, bit1 | bit2, 0, content);
+    }
+
+    // keys with the same full hash, small enough to be always copied
+    private static class CollisionNode<K, V> extends TrieNode<K, V> {
+        private final int hash;
+        private final Object[] content;
+
+        private CollisionNode(int hash, Object[] content) {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (key.equals(content[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(K key, int hash, int shift) {
+            int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : content[index + 1];
+        }
+
+        @Override
+        TrieNode<K, V> put(Object owner, K key, V value, int hash, int shift, Change<V> change) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                change.oldValue = (V) content[index + 1];
+                if (content[index + 1] == value) {
+                    return this;
+                }
+                Object[] newContent = content.clone();
+                newContent[index + 1] = value;
+                return new CollisionNode<>(this.hash, newContent);
+            }
+            change.added = true;
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, content.length);
+            newContent[content.length] = key;
+            newContent[content.length + 1] = value;
+            return new CollisionNode<>(this.hash, newContent);
+        }
+
+        @Override
+        TrieNode<K, V> remove(Object owner, K key, int hash, int shift, Change<V> change) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            change.removed = true;
+            change.oldValue = (V) content[index + 1];
+            Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, index);
+            System.arraycopy(content, index + 2, newContent, index, content.length - index - 2);
+            return new CollisionNode<>(this.hash, newContent);
+        }
+
+        @Override
+        int entityCount() {
+            return content.length / 2;
+        }
+
+        @Override
+        K keyAt(int index) {
+            return (K) content[2 * index];
+        }
+
+        @Override
+        V valueAt(int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount() {
+            return 0;
+        }
+
+        @Override
+        TrieNode<K, V> nodeAt(int index) {
+            throw new IndexOutOfBoundsException("Collision node has no sub-nodes");
+        }
+    }
+
+    // depth first over the trie with an explicit stack, at most one level per 5 bits of the hash
+    private static class TrieIterator<K, V> implements Iterator<Map.Entity<K, V>> {
+        private static final int MAX_DEPTH = HASH_LENGTH / BITS + 2;
+
+        // null for an immutable map, iterator removes and entity updates go to the builder
+        private final Builder<K, V> builder;
+        private final TrieNode<K, V>[] nodes = new TrieNode[MAX_DEPTH];
+        private final int[] nextNodeIndexes = new int[MAX_DEPTH];
+        private int depth;
+        private TrieNode<K, V> currentNode;
+        private int nextEntityIndex;
+        private K lastKey;
+        private boolean canBeRemoved;
+
+        private TrieIterator(TrieNode<K, V> root, Builder<K, V> builder) {
+            this.builder = builder;
+            nodes[0] = root;
+            currentNode = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextEntityIndex >= currentNode.entityCount()) {
+                // entities of the node are done, descend into its next sub-node or go back up
+                while (nextNodeIndexes[depth] >= nodes[depth].nodeCount()) {
+                    if (depth == 0) {
+                        return false;
+                    }
+                    depth--;
+                }
+                TrieNode<K, V> subNode = nodes[depth].nodeAt(nextNodeIndexes[depth]++);
+                depth++;
+                nodes[depth] = subNode;
+                nextNodeIndexes[depth] = 0;
+                currentNode = subNode;
+                nextEntityIndex = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entity<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more entities in the map");
+            }
+            lastKey = currentNode.keyAt(nextEntityIndex);
+            canBeRemoved = true;
+            return new TrieEntity<>(lastKey, currentNode.valueAt(nextEntityIndex++), builder);
+        }
+
+        @Override
+        public void remove() {
+            if (builder == null) {
+                throw new UnsupportedOperationException("The map is immutable");
+            }
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            builder.remove(lastKey);
+            canBeRemoved = false;
+        }
+    }
+
+    private static class TrieEntity<K, V> implements Map.Entity<K, V> {
+        private final K key;
+        private V value;
+        private final Builder<K, V> builder;
+
+        private TrieEntity(K key, V value, Builder<K, V> builder) {
+            this.key = key;
+            this.value = value;
+            this.builder = builder;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            if (builder == null) {
+                throw new UnsupportedOperationException("The map is immutable");
+            }
+            this.value = value;
+            builder.put(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return "TrieEntity{" +
+                    "key=" + key +
+                    ", value=" + value +
+                    '}';
+        }
+    }
+}
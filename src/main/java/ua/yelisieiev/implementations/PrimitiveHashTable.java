@@ -0,0 +1,210 @@
+package ua.yelisieiev.implementations;
+
+import java.util.Arrays;
+
+// open addressing shared by the primitive-keyed maps: linear probing, backward-shift removal and growth;
+// a bitmap tells which slots are in use, so no key value has to mark a free slot and 0 is a key like any other;
+// the subclasses own the key and value arrays and only say how to hash, compare, swap and clear slots;
+// a free slot may hold stale primitives, but never a reference, clearSlot() takes care of that
+abstract class PrimitiveHashTable {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final double growFactor;
+    private long[] used;
+    private int mask;
+    private int size;
+    private int growThreshold;
+
+    // the subclass creates its arrays of capacity() slots right after this
+    PrimitiveHashTable(int capacity, double growFactor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (growFactor <= 0 || growFactor >= 1) {
+            throw new IllegalArgumentException("Grow factor must be between 0 and 1");
+        }
+        this.growFactor = growFactor;
+        resize(tableSizeFor((int) Math.ceil(capacity / growFactor)));
+    }
+
+    abstract int hashAt(int slot);
+
+    abstract boolean hasKey(int slot, long key);
+
+    abstract void swapSlots(int first, int second);
+
+    // drops the reference a free slot would otherwise keep
+    abstract void clearSlot(int slot);
+
+    // makes the arrays bigger, the entries stay in their slots
+    abstract void growArrays(int capacity);
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    final int capacity() {
+        return mask + 1;
+    }
+
+    // returns the slot holding the key, or ~(first free slot) if the key is absent
+    final int findSlot(long key, int hash) {
+        int slot = hash & mask;
+        while (isSet(used, slot)) {
+            if (hasKey(slot, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    // the subclass has written the key and the value into the free slot
+    final void occupySlot(int slot) {
+        set(used, slot);
+        if (++size >= growThreshold) {
+            growTable();
+        }
+    }
+
+    // moves the following entries of the probe run back, so no tombstone is needed
+    final void removeAtSlot(int slot) {
+        int hole = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            if (!isSet(used, current)) {
+                break;
+            }
+            int home = hashAt(current) & mask;
+            if (hole <= current ? hole >= home || home > current : hole >= home && home > current) {
+                swapSlots(hole, current);
+                hole = current;
+            }
+        }
+        clearSlot(hole);
+        clear(used, hole);
+        size--;
+    }
+
+    final void clearTable() {
+        for (int slot = nextUsedSlot(-1); slot >= 0; slot = nextUsedSlot(slot)) {
+            clearSlot(slot);
+        }
+        Arrays.fill(used, 0);
+        size = 0;
+    }
+
+    // the first used slot after the given one, or -1
+    final int nextUsedSlot(int slot) {
+        int start = slot + 1;
+        if (start > mask) {
+            return -1;
+        }
+        int word = start >>> 6;
+        long bits = used[word] & (-1L << start);
+        while (bits == 0) {
+            if (++word == used.length) {
+                return -1;
+            }
+            bits = used[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    // the entries keep their slots in the bigger arrays and are then placed in the new table one by one;
+    // when the place of an entry holds another one still waiting, the two swap and the other one goes next
+    private void growTable() {
+        int oldCapacity = capacity();
+        if (oldCapacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Map can't grow any more");
+        }
+        long[] waiting = used;
+        growArrays(oldCapacity << 1);
+        resize(oldCapacity << 1);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            while (isSet(waiting, slot)) {
+                clear(waiting, slot);
+                int target = hashAt(slot) & mask;
+                while (isSet(used, target)) {
+                    target = (target + 1) & mask;
+                }
+                set(used, target);
+                if (target != slot) {
+                    swapSlots(slot, target);
+                    if (target < oldCapacity && isSet(waiting, target)) {
+                        clear(waiting, target);
+                        set(waiting, slot);
+                    }
+                }
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        used = new long[Math.max(1, capacity >>> 6)];
+        mask = capacity - 1;
+        growThreshold = Math.min(capacity - 1, (int) (capacity * growFactor));
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    static int spread(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // walks the used slots, the subclass cursors add the typed key() and value()
+    abstract class SlotCursor {
+        int slot = -1;
+
+        // moves the cursor before the first entry, so one cursor can be reused for many scans
+        public void reset() {
+            slot = -1;
+        }
+
+        public boolean advance() {
+            if (slot == -2) {
+                return false;
+            }
+            slot = nextUsedSlot(slot);
+            if (slot < 0) {
+                slot = -2;
+                return false;
+            }
+            return true;
+        }
+
+        final void checkPosition() {
+            if (slot < 0) {
+                throw new IllegalStateException("Cursor is not at an entry");
+            }
+        }
+    }
+}
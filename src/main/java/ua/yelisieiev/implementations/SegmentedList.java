@@ -0,0 +1,325 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+// array list made of fixed-size chunks: growing adds a chunk and never copies the elements,
+// only the directory of chunks is copied when it fills up; the chunk size is a power of two,
+// so the chunk and the offset of an index are a shift and a mask;
+// the size is a long, the long-indexed methods reach the elements past Integer.MAX_VALUE
+public class SegmentedList<V> implements List<V> {
+    // 16K references stay well below the humongous object size of G1
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+    private static final int INITIAL_DIRECTORY_SIZE = 8;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private Object[][] chunks = new Object[INITIAL_DIRECTORY_SIZE][];
+    private long size;
+
+    public SegmentedList(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("Chunk size must be a power of two");
+        }
+        chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        chunkMask = chunkSize - 1;
+    }
+
+    public SegmentedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public void add(V value) {
+        ensureCapacity(size + 1);
+        chunks[(int) (size >>> chunkShift)][(int) size & chunkMask] = value;
+        size++;
+    }
+
+    @Override
+    public void add(V value, int index) {
+        add(value, (long) index);
+    }
+
+    public void add(V value, long index) {
+        checkIndexInBounds(index, size);
+        ensureCapacity(size + 1);
+        copyRange(index, index + 1, size - index);
+        chunks[(int) (index >>> chunkShift)][(int) index & chunkMask] = value;
+        size++;
+    }
+
+    @Override
+    public V remove(int index) {
+        return remove((long) index);
+    }
+
+    public V remove(long index) {
+        checkIndexInBounds(index);
+        V removedValue = get(index);
+        copyRange(index + 1, index, size - index - 1);
+        clearTail(size - 1);
+        return removedValue;
+    }
+
+    @Override
+    public V get(int index) {
+        return get((long) index);
+    }
+
+    public V get(long index) {
+        checkIndexInBounds(index);
+        return (V) chunks[(int) (index >>> chunkShift)][(int) index & chunkMask];
+    }
+
+    @Override
+    public V set(V value, int index) {
+        return set(value, (long) index);
+    }
+
+    public V set(V value, long index) {
+        checkIndexInBounds(index);
+        Object[] chunk = chunks[(int) (index >>> chunkShift)];
+        int offset = (int) index & chunkMask;
+        V oldValue = (V) chunk[offset];
+        chunk[offset] = value;
+        return oldValue;
+    }
+
+    // one shift for all the values, the new chunks are just added
+    @Override
+    public void addAll(List<? extends V> values, int index) {
+        checkIndexInBounds(index, size);
+        Object[] added = new Object[values.size()];
+        int count = 0;
+        for (V value : values) {
+            added[count++] = value;
+        }
+        ensureCapacity(size + count);
+        copyRange(index, index + count, size - index);
+        for (int i = 0; i < count; i++) {
+            long target = index + (long) i;
+            chunks[(int) (target >>> chunkShift)][(int) target & chunkMask] = added[i];
+        }
+        size += count;
+    }
+
+    // appending needs no shift, the count is taken first as the values may be this list
+    @Override
+    public void addAll(List<? extends V> values) {
+        int count = values.size();
+        Iterator<? extends V> iterator = values.iterator();
+        for (int i = 0; i < count; i++) {
+            add(iterator.next());
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        removeRange((long) fromIndex, (long) toIndex);
+    }
+
+    public void removeRange(long fromIndex, long toIndex) {
+        checkIndexInBounds(fromIndex, toIndex);
+        checkIndexInBounds(toIndex, size);
+        copyRange(toIndex, fromIndex, size - toIndex);
+        clearTail(size - (toIndex - fromIndex));
+    }
+
+    // kept elements are moved down in a single pass
+    @Override
+    public boolean removeIf(Predicate<? super V> filter) {
+        Objects.requireNonNull(filter);
+        long oldSize = size;
+        long kept = 0;
+        long i = 0;
+        try {
+            for (; i < size; i++) {
+                Object value = chunks[(int) (i >>> chunkShift)][(int) i & chunkMask];
+                if (!filter.test((V) value)) {
+                    chunks[(int) (kept >>> chunkShift)][(int) kept & chunkMask] = value;
+                    kept++;
+                }
+            }
+        } finally {
+            // if the filter throws, the untested elements stay
+            copyRange(i, kept, size - i);
+            clearTail(kept + size - i);
+        }
+        return size != oldSize;
+    }
+
+    @Override
+    public void clear() {
+        chunks = new Object[INITIAL_DIRECTORY_SIZE][];
+        size = 0;
+    }
+
+    // Integer.MAX_VALUE if there are more elements
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public long longSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return longIndexOf(value) != -1;
+    }
+
+    // throws ArithmeticException if the index doesn't fit an int, longIndexOf doesn't
+    @Override
+    public int indexOf(V value) {
+        return Math.toIntExact(longIndexOf(value));
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        return Math.toIntExact(longLastIndexOf(value));
+    }
+
+    public long longIndexOf(V value) {
+        for (long i = 0; i < size; i++) {
+            Object element = chunks[(int) (i >>> chunkShift)][(int) i & chunkMask];
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long longLastIndexOf(V value) {
+        for (long i = size - 1; i >= 0; i--) {
+            Object element = chunks[(int) (i >>> chunkShift)][(int) i & chunkMask];
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (V v : this) {
+            stringJoiner.add(String.valueOf(v));
+        }
+        return stringJoiner.toString();
+    }
+
+    // adds the missing chunks, the directory is the only thing ever copied
+    private void ensureCapacity(long capacity) {
+        int chunkCount = (int) ((capacity + chunkMask) >>> chunkShift);
+        if (chunkCount > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunkCount, chunks.length * 2));
+        }
+        for (int i = chunkCount - 1; i >= 0 && chunks[i] == null; i--) {
+            chunks[i] = new Object[chunkMask + 1];
+        }
+    }
+
+    // moves length elements from one index to another, a chunk piece at a time,
+    // in the direction that doesn't overwrite the elements still to be moved
+    private void copyRange(long from, long to, long length) {
+        if (from > to) {
+            while (length > 0) {
+                int fromOffset = (int) from & chunkMask;
+                int toOffset = (int) to & chunkMask;
+                int count = (int) Math.min(length, chunkMask + 1 - Math.max(fromOffset, toOffset));
+                System.arraycopy(chunks[(int) (from >>> chunkShift)], fromOffset,
+                        chunks[(int) (to >>> chunkShift)], toOffset, count);
+                from += count;
+                to += count;
+                length -= count;
+            }
+        } else if (from < to) {
+            long fromEnd = from + length;
+            long toEnd = to + length;
+            while (length > 0) {
+                int fromEndOffset = (int) ((fromEnd - 1) & chunkMask) + 1;
+                int toEndOffset = (int) ((toEnd - 1) & chunkMask) + 1;
+                int count = (int) Math.min(length, Math.min(fromEndOffset, toEndOffset));
+                fromEnd -= count;
+                toEnd -= count;
+                System.arraycopy(chunks[(int) (fromEnd >>> chunkShift)], (int) fromEnd & chunkMask,
+                        chunks[(int) (toEnd >>> chunkShift)], (int) toEnd & chunkMask, count);
+                length -= count;
+            }
+        }
+    }
+
+    // nulls the elements from the new size on and drops the chunks that became empty,
+    // but one, so adding and removing at a chunk boundary doesn't allocate every time
+    private void clearTail(long newSize) {
+        for (long i = newSize; i < size; i++) {
+            chunks[(int) (i >>> chunkShift)][(int) i & chunkMask] = null;
+        }
+        int usedChunks = (int) ((newSize + chunkMask) >>> chunkShift);
+        for (int i = usedChunks + 1; i < chunks.length && chunks[i] != null; i++) {
+            chunks[i] = null;
+        }
+        size = newSize;
+    }
+
+    private void checkIndexInBounds(long index) {
+        checkIndexInBounds(index, size - 1);
+    }
+
+    private void checkIndexInBounds(long index, long upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new MyIterator();
+    }
+
+    private class MyIterator implements Iterator<V> {
+        private long currentIndex = -1;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size - 1;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            canBeRemoved = true;
+            currentIndex++;
+            return (V) chunks[(int) (currentIndex >>> chunkShift)][(int) currentIndex & chunkMask];
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            SegmentedList.this.remove(currentIndex);
+            currentIndex--;
+            canBeRemoved = false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.Queue;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// bounded queue for one producer thread and one consumer thread, no CAS at all:
+// - each side owns its index and publishes it with a release write after touching the slot
+// - each side keeps a cached copy of the other index and reads the real one only when the cache runs out
+// - the two sides are padded apart, see PaddedCounters, each cache sits next to the index of its owner
+public class SpscArrayQueue<V> implements Queue<V> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int PRODUCER_INDEX = PaddedCounters.slot(0);
+    // the consumer index seen by the producer plus the capacity
+    private static final int PRODUCER_LIMIT = PRODUCER_INDEX + 1;
+    private static final int CONSUMER_INDEX = PaddedCounters.slot(1);
+    // the producer index seen by the consumer
+    private static final int CONSUMER_LIMIT = CONSUMER_INDEX + 1;
+
+    private final PaddedCounters counters = new PaddedCounters(2);
+    private final Object[] elements;
+    private final int mask;
+
+    // the capacity is rounded up to a power of two
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity can't be bigger than " + MAXIMUM_CAPACITY);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        elements = new Object[size];
+        mask = size - 1;
+    }
+
+    // producer thread only
+    @Override
+    public boolean offer(V value) {
+        if (value == null) {
+            throw new NullPointerException("Value can't be null");
+        }
+        long index = counters.getPlain(PRODUCER_INDEX);
+        if (index >= counters.getPlain(PRODUCER_LIMIT)) {
+            counters.setPlain(PRODUCER_LIMIT, counters.getAcquire(CONSUMER_INDEX) + elements.length);
+            if (index >= counters.getPlain(PRODUCER_LIMIT)) {
+                return false;
+            }
+        }
+        elements[(int) index & mask] = value;
+        counters.setRelease(PRODUCER_INDEX, index + 1);
+        return true;
+    }
+
+    // consumer thread only
+    @Override
+    public V poll() {
+        long index = counters.getPlain(CONSUMER_INDEX);
+        if (!isAvailable(index)) {
+            return null;
+        }
+        int slot = (int) index & mask;
+        V value = (V) elements[slot];
+        elements[slot] = null;
+        counters.setRelease(CONSUMER_INDEX, index + 1);
+        return value;
+    }
+
+    // consumer thread only
+    @Override
+    public V peek() {
+        long index = counters.getPlain(CONSUMER_INDEX);
+        return isAvailable(index) ? (V) elements[(int) index & mask] : null;
+    }
+
+    // consumer thread only, takes every value that was available when it started
+    // and publishes the consumer index once for the whole batch
+    @Override
+    public int drain(Consumer<? super V> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        long index = counters.getPlain(CONSUMER_INDEX);
+        long available = counters.getAcquire(PRODUCER_INDEX) - index;
+        counters.setPlain(CONSUMER_LIMIT, index + available);
+        int count = (int) Math.min(limit, available);
+        int polled = 0;
+        try {
+            while (polled < count) {
+                int slot = (int) (index + polled) & mask;
+                V value = (V) elements[slot];
+                elements[slot] = null;
+                polled++;
+                consumer.accept(value);
+            }
+        } finally {
+            // a value handed to a consumer that threw is still taken
+            counters.setRelease(CONSUMER_INDEX, index + polled);
+        }
+        return polled;
+    }
+
+    @Override
+    public int size() {
+        long consumerIndex = counters.getVolatile(CONSUMER_INDEX);
+        long producerIndex = counters.getVolatile(PRODUCER_INDEX);
+        return (int) Math.max(0, Math.min(elements.length, producerIndex - consumerIndex));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    private boolean isAvailable(long index) {
+        if (index < counters.getPlain(CONSUMER_LIMIT)) {
+            return true;
+        }
+        counters.setPlain(CONSUMER_LIMIT, counters.getAcquire(PRODUCER_INDEX));
+        return index < counters.getPlain(CONSUMER_LIMIT);
+    }
+}
@@ -0,0 +1,115 @@
+package ua.yelisieiev.implementations;
+
+import java.util.function.Consumer;
+
+// hierarchical timer wheel: level i has BUCKETS[i] buckets each SPANS[i] nanoseconds wide,
+// a timer lives in the finest level whose range covers its remaining delay; advancing the time
+// only visits the buckets the clock passed, expiring due timers and moving the rest one level down
+class TimerWheel<T extends TimerWheel.Timer> {
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, // 1.07s
+            1L << 36, // 1.14m
+            1L << 42, // 1.22h
+            1L << 47, // 1.63d
+            4L << 47, // 6.5d
+            4L << 47
+    };
+    private static final long[] SHIFT = {30, 36, 42, 47, 49};
+
+    private final Timer[][] wheel;
+    private long nanos;
+
+    TimerWheel(long currentTimeNanos) {
+        nanos = currentTimeNanos;
+        wheel = new Timer[BUCKETS.length][];
+        for (int level = 0; level < BUCKETS.length; level++) {
+            wheel[level] = new Timer[BUCKETS[level]];
+            for (int bucket = 0; bucket < BUCKETS[level]; bucket++) {
+                Timer sentinel = new Timer();
+                sentinel.prev = sentinel.next = sentinel;
+                wheel[level][bucket] = sentinel;
+            }
+        }
+    }
+
+    void schedule(T timer) {
+        Timer sentinel = findBucket(timer.time);
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+    void deschedule(T timer) {
+        if (timer.next != null) {
+            timer.prev.next = timer.next;
+            timer.next.prev = timer.prev;
+            timer.prev = timer.next = null;
+        }
+    }
+
+    void reschedule(T timer) {
+        deschedule(timer);
+        schedule(timer);
+    }
+
+    // hands every timer due by currentTimeNanos to the consumer, already descheduled
+    void advance(long currentTimeNanos, Consumer<T> expiredConsumer) {
+        long previousTimeNanos = nanos;
+        nanos = currentTimeNanos;
+        for (int level = 0; level < SHIFT.length; level++) {
+            long previousTicks = previousTimeNanos >>> SHIFT[level];
+            long currentTicks = currentTimeNanos >>> SHIFT[level];
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            expire(level, previousTicks, currentTicks - previousTicks, expiredConsumer);
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta, Consumer<T> expiredConsumer) {
+        Timer[] timers = wheel[level];
+        int mask = timers.length - 1;
+        int steps = (int) Math.min(1 + delta, timers.length);
+        int start = (int) (previousTicks & mask);
+        for (int i = start; i < start + steps; i++) {
+            Timer sentinel = timers[i & mask];
+            Timer timer = sentinel.next;
+            sentinel.prev = sentinel.next = sentinel;
+            while (timer != sentinel) {
+                Timer next = timer.next;
+                timer.prev = timer.next = null;
+                if (timer.time - nanos > 0) {
+                    schedule((T) timer);
+                } else {
+                    expiredConsumer.accept((T) timer);
+                }
+                timer = next;
+            }
+        }
+    }
+
+    private Timer findBucket(long time) {
+        long duration = time - nanos;
+        int lastLevel = wheel.length - 1;
+        for (int level = 0; level < lastLevel; level++) {
+            if (duration < SPANS[level + 1]) {
+                long ticks = time >>> SHIFT[level];
+                return wheel[level][(int) ticks & (wheel[level].length - 1)];
+            }
+        }
+        return wheel[lastLevel][0];
+    }
+
+    // entries scheduled in the wheel extend this class; a bucket head is a timer linked to itself
+    static class Timer {
+        long time;
+        Timer prev;
+        Timer next;
+
+        boolean isScheduled() {
+            return next != null;
+        }
+    }
+}
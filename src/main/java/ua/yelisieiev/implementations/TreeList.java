@@ -0,0 +1,321 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+// list kept in an AVL tree ordered by position: every node knows the size of its subtree,
+// so get, set, add and remove at any index go down one path and take O(log n)
+public class TreeList<V> implements List<V> {
+    private static class Node<E> {
+        private E value;
+        private Node<E> left;
+        private Node<E> right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(E value) {
+            this.value = value;
+        }
+    }
+
+    private Node<V> root;
+
+    public TreeList() {
+    }
+
+    // builds a perfectly balanced tree straight from the elements in O(n), without rebalancing
+    public static <V> TreeList<V> fromList(List<? extends V> list) {
+        Object[] values = new Object[list.size()];
+        int i = 0;
+        for (V value : list) {
+            values[i++] = value;
+        }
+        TreeList<V> treeList = new TreeList<>();
+        treeList.root = build(values, 0, values.length);
+        return treeList;
+    }
+
+    private static <V> Node<V> build(Object[] values, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<V> node = new Node<>((V) values[middle]);
+        node.left = build(values, from, middle);
+        node.right = build(values, middle + 1, to);
+        update(node);
+        return node;
+    }
+
+    @Override
+    public void add(V value) {
+        root = insert(root, size(root), value);
+    }
+
+    @Override
+    public void add(V value, int index) {
+        checkIndexInBounds(index, size());
+        root = insert(root, index, value);
+    }
+
+    @Override
+    public V remove(int index) {
+        checkIndexInBounds(index);
+        V removedValue = getNode(index).value;
+        root = delete(root, index);
+        return removedValue;
+    }
+
+    @Override
+    public V get(int index) {
+        checkIndexInBounds(index);
+        return getNode(index).value;
+    }
+
+    @Override
+    public V set(V value, int index) {
+        checkIndexInBounds(index);
+        Node<V> node = getNode(index);
+        V oldValue = node.value;
+        node.value = value;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(V value) {
+        int index = 0;
+        for (V element : this) {
+            if (value == null ? element == null : value.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        int lastIndex = -1;
+        int index = 0;
+        for (V element : this) {
+            if (value == null ? element == null : value.equals(element)) {
+                lastIndex = index;
+            }
+            index++;
+        }
+        return lastIndex;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (V v : this) {
+            stringJoiner.add(String.valueOf(v));
+        }
+        return stringJoiner.toString();
+    }
+
+    private Node<V> getNode(int index) {
+        Node<V> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private Node<V> insert(Node<V> node, int index, V value) {
+        if (node == null) {
+            return new Node<>(value);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            node.left = insert(node.left, index, value);
+        } else {
+            node.right = insert(node.right, index - leftSize - 1, value);
+        }
+        return rebalance(node);
+    }
+
+    private Node<V> delete(Node<V> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = delete(node.left, index);
+        } else if (index > leftSize) {
+            node.right = delete(node.right, index - leftSize - 1);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // the next element takes the place of the removed one
+            Node<V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = delete(node.right, 0);
+        }
+        return rebalance(node);
+    }
+
+    private static <V> Node<V> rebalance(Node<V> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        Node<V> newTop = node.right;
+        node.right = newTop.left;
+        newTop.left = node;
+        update(node);
+        update(newTop);
+        return newTop;
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        Node<V> newTop = node.left;
+        node.left = newTop.right;
+        newTop.right = node;
+        update(node);
+        update(newTop);
+        return newTop;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private void checkIndexInBounds(int index) {
+        checkIndexInBounds(index, size() - 1);
+    }
+
+    private void checkIndexInBounds(int index, int upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new MyIterator();
+    }
+
+    // in-order walk with an explicit stack of the nodes still to be returned, O(1) amortized per element
+    private class MyIterator implements Iterator<V> {
+        private Node<V>[] stack;
+        private int depth;
+        private int nextIndex;
+        private boolean canBeRemoved;
+
+        private MyIterator() {
+            seek(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<V> node = stack[--depth];
+            for (Node<V> child = node.right; child != null; child = child.left) {
+                stack[depth++] = child;
+            }
+            nextIndex++;
+            canBeRemoved = true;
+            return node.value;
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            TreeList.this.remove(--nextIndex);
+            // rotations may have moved the stacked nodes, so the path is rebuilt
+            seek(nextIndex);
+            canBeRemoved = false;
+        }
+
+        // stacks the path to the element at the index, keeping only the nodes that come after it
+        private void seek(int index) {
+            stack = new Node[height(root)];
+            depth = 0;
+            Node<V> node = root;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (index < leftSize) {
+                    stack[depth++] = node;
+                    node = node.left;
+                } else if (index == leftSize) {
+                    stack[depth++] = node;
+                    return;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package ua.yelisieiev.implementations;
+
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+// linked list of small arrays: one node per nodeCapacity elements instead of one per element,
+// so indexed access skips whole nodes and iteration reads neighbouring elements from one array;
+// a full node is split in two halves on insert, a node less than half full absorbs its successor if they fit
+public class UnrolledLinkedList<V> implements List<V> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 2;
+
+    private static class Node<E> {
+        private final Object[] elements;
+        private int count;
+        private Node<E> next;
+        private Node<E> prev;
+
+        private Node(int capacity) {
+            elements = new Object[capacity];
+        }
+    }
+
+    private final int nodeCapacity;
+    private int size;
+    private Node<V> first;
+    private Node<V> last;
+    // the node found by the last indexed access and the index of its first element,
+    // null after changes that could move it
+    private Node<V> cachedNode;
+    private int cachedNodeStart;
+
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity can't be less than " + MIN_NODE_CAPACITY);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    @Override
+    public void add(V value) {
+        if (last == null || last.count == nodeCapacity) {
+            linkAfter(last, new Node<>(nodeCapacity));
+        }
+        last.elements[last.count++] = value;
+        size++;
+    }
+
+    @Override
+    public void add(V value, int index) {
+        checkIndexInBounds(index, size);
+        if (index == size) {
+            add(value);
+            return;
+        }
+        Node<V> node = findNode(index);
+        int offset = index - cachedNodeStart;
+        if (node.count == nodeCapacity) {
+            Node<V> newNode = splitNode(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = value;
+        node.count++;
+        size++;
+    }
+
+    @Override
+    public V remove(int index) {
+        checkIndexInBounds(index);
+        Node<V> node = findNode(index);
+        V removedValue = (V) node.elements[index - cachedNodeStart];
+        removeFromNode(node, index - cachedNodeStart);
+        if (node.count == 0) {
+            cachedNode = null;
+        }
+        return removedValue;
+    }
+
+    @Override
+    public V get(int index) {
+        checkIndexInBounds(index);
+        Node<V> node = findNode(index);
+        return (V) node.elements[index - cachedNodeStart];
+    }
+
+    @Override
+    public V set(V value, int index) {
+        checkIndexInBounds(index);
+        Node<V> node = findNode(index);
+        int offset = index - cachedNodeStart;
+        V oldValue = (V) node.elements[offset];
+        node.elements[offset] = value;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        first = last = cachedNode = null;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(V value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(V value) {
+        int nodeStart = 0;
+        for (Node<V> node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (value == null ? node.elements[i] == null : value.equals(node.elements[i])) {
+                    return nodeStart + i;
+                }
+            }
+            nodeStart += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(V value) {
+        int nodeEnd = size;
+        for (Node<V> node = last; node != null; node = node.prev) {
+            nodeEnd -= node.count;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (value == null ? node.elements[i] == null : value.equals(node.elements[i])) {
+                    return nodeEnd + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(", ", "[", "]");
+        for (V v : this) {
+            stringJoiner.add(String.valueOf(v));
+        }
+        return stringJoiner.toString();
+    }
+
+    // walks whole nodes from whichever is the closest: the first node, the last node or the cached one
+    private Node<V> findNode(int index) {
+        Node<V> node = first;
+        int nodeStart = 0;
+        if (index >= size / 2) {
+            node = last;
+            nodeStart = size - last.count;
+        }
+        if (cachedNode != null && Math.abs(cachedNodeStart - index) < Math.abs(nodeStart - index)) {
+            node = cachedNode;
+            nodeStart = cachedNodeStart;
+        }
+        while (index >= nodeStart + node.count) {
+            nodeStart += node.count;
+            node = node.next;
+        }
+        while (index < nodeStart) {
+            node = node.prev;
+            nodeStart -= node.count;
+        }
+        cachedNode = node;
+        cachedNodeStart = nodeStart;
+        return node;
+    }
+
+    // moves the upper half of a full node into a new node right after it
+    private Node<V> splitNode(Node<V> node) {
+        Node<V> newNode = new Node<>(nodeCapacity);
+        int half = node.count / 2;
+        newNode.count = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, newNode.count);
+        clearElements(node, half);
+        node.count = half;
+        linkAfter(node, newNode);
+        return newNode;
+    }
+
+    // an emptied node is unlinked, a node less than half full takes in the next one if they fit together
+    private void removeFromNode(Node<V> node, int offset) {
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+        Node<V> next = node.next;
+        if (node.count < nodeCapacity / 2 && next != null && node.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+    }
+
+    private void clearElements(Node<V> node, int from) {
+        for (int i = from; i < node.count; i++) {
+            node.elements[i] = null;
+        }
+    }
+
+    private void linkAfter(Node<V> node, Node<V> newNode) {
+        newNode.prev = node;
+        if (node == null) {
+            newNode.next = first;
+            first = newNode;
+        } else {
+            newNode.next = node.next;
+            node.next = newNode;
+        }
+        if (newNode.next == null) {
+            last = newNode;
+        } else {
+            newNode.next.prev = newNode;
+        }
+    }
+
+    private void unlink(Node<V> node) {
+        if (node.prev == null) {
+            first = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            last = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private void checkIndexInBounds(int index) {
+        checkIndexInBounds(index, size - 1);
+    }
+
+    private void checkIndexInBounds(int index, int upperLimit) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > upperLimit) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new MyIterator();
+    }
+
+    private class MyIterator implements Iterator<V> {
+        // position of the next element, the offset may be past the end of the node
+        private Node<V> nextNode = first;
+        private int nextOffset;
+        private Node<V> currentNode;
+        private int currentOffset;
+        private boolean canBeRemoved;
+
+        @Override
+        public boolean hasNext() {
+            while (nextNode != null && nextOffset >= nextNode.count) {
+                nextNode = nextNode.next;
+                nextOffset = 0;
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            currentNode = nextNode;
+            currentOffset = nextOffset++;
+            canBeRemoved = true;
+            return (V) currentNode.elements[currentOffset];
+        }
+
+        @Override
+        public void remove() {
+            if (!canBeRemoved) {
+                throw new IllegalStateException("No active entity for the iterator");
+            }
+            Node<V> followingNode = currentNode.next;
+            removeFromNode(currentNode, currentOffset);
+            // the following element took the removed one's place, unless the node is gone
+            if (currentNode.count == 0) {
+                nextNode = followingNode;
+                nextOffset = 0;
+            } else {
+                nextNode = currentNode;
+                nextOffset = currentOffset;
+            }
+            cachedNode = null;
+            canBeRemoved = false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ua.yelisieiev.interfaces;
+
+import java.nio.ByteBuffer;
+
+// turns values into bytes for off-heap storage and back, never sees null values;
+// works at absolute offsets, so the buffer position is left alone
+public interface Codec<V> {
+    // the number of bytes every value takes, or -1 if it depends on the value
+    int fixedSize();
+
+    default int encodedSize(V value) {
+        return fixedSize();
+    }
+
+    void encode(V value, ByteBuffer buffer, int offset);
+
+    V decode(ByteBuffer buffer, int offset, int length);
+}
@@ -0,0 +1,17 @@
+package ua.yelisieiev.interfaces;
+
+import java.util.Comparator;
+
+// replaces key.hashCode()/key.equals() in hash based maps,
+// must be consistent: equal keys always have equal hash codes
+public interface HashingStrategy<K> {
+    int hashCode(K key);
+
+    boolean equals(K key, K otherKey);
+
+    // an order consistent with equals(): keys it puts apart must never be equal, 0 means it can't tell;
+    // the tree buckets of colliding keys use it to skip subtrees, without it they are searched in full
+    default Comparator<? super K> comparator() {
+        return null;
+    }
+}
@@ -1,5 +1,13 @@
 package ua.yelisieiev.interfaces;
 
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface List <V> extends Iterable<V> {
     // add value to the end of the list
     void add(V value);
@@ -43,4 +51,87 @@ public interface List <V> extends Iterable<V> {
 
     // [A, B, C]
     String toString();
+
+    // bulk operations, the defaults go element by element,
+    // implementations may do them with a single shift or relinking
+
+    default void addAll(List<? extends V> values) {
+        addAll(values, size());
+    }
+
+    // [A, B, C] addAll([D, E], 1) -> [A, D, E, B, C]
+    // we can add values by index between [0, size]
+    default void addAll(List<? extends V> values, int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + index);
+        }
+        if (index > size()) {
+            throw new IndexOutOfBoundsException("Index too big: " + index);
+        }
+        // a copy first, the values may be this list
+        Object[] added = new Object[values.size()];
+        int i = 0;
+        for (V value : values) {
+            added[i++] = value;
+        }
+        for (Object value : added) {
+            add((V) value, index++);
+        }
+    }
+
+    // [A, B, C, D] removeRange(1, 3) -> [A, D]
+    // removes from fromIndex inclusive to toIndex exclusive, 0 <= fromIndex <= toIndex <= size
+    default void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size());
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    // true if any element was removed
+    default boolean removeIf(Predicate<? super V> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Iterator<V> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    // keeps only the elements contained in the values, true if any element was removed
+    default boolean retainAll(List<V> values) {
+        Objects.requireNonNull(values);
+        return removeIf(value -> !values.contains(value));
+    }
+
+    // sized, splits the iterator in batches, which suits linked lists;
+    // array based lists split by index ranges instead
+    @Override
+    default Spliterator<V> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<V> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<V> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index too small: " + fromIndex);
+        }
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException("Index too big: " + toIndex);
+        }
+        if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From index " + fromIndex + " is bigger than to index " + toIndex);
+        }
+    }
 }
\ No newline at end of file
@@ -1,15 +1,80 @@
 package ua.yelisieiev.interfaces;
 
-public interface Map<K, V> extends Iterable<Map.Entity<K, V>> {
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public interface Map<K, V> extends ReadableMap<K, V> {
     V put(K key, V value);
 
-    V get(K key);
+    V remove(K key);
 
-    boolean containsKey(K key);
+    // the methods below follow java.util.Map: a key mapped to null counts as absent
+    // and a null returned by a function removes the mapping;
+    // defaults are built on get/put, implementations may do them in a single lookup
 
-    V remove(K key);
+    default V putIfAbsent(K key, V value) {
+        V currentValue = get(key);
+        if (currentValue == null) {
+            currentValue = put(key, value);
+        }
+        return currentValue;
+    }
+
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        V currentValue = get(key);
+        if (currentValue == null) {
+            V newValue = mappingFunction.apply(key);
+            if (newValue != null) {
+                put(key, newValue);
+            }
+            return newValue;
+        }
+        return currentValue;
+    }
 
-    int size();
+    default V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        V oldValue = get(key);
+        if (oldValue == null) {
+            return null;
+        }
+        V newValue = remappingFunction.apply(key, oldValue);
+        if (newValue == null) {
+            remove(key);
+        } else {
+            put(key, newValue);
+        }
+        return newValue;
+    }
+
+    default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        V oldValue = get(key);
+        V newValue = remappingFunction.apply(key, oldValue);
+        if (newValue == null) {
+            if (oldValue != null || containsKey(key)) {
+                remove(key);
+            }
+        } else {
+            put(key, newValue);
+        }
+        return newValue;
+    }
+
+    default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Objects.requireNonNull(value);
+        V oldValue = get(key);
+        V newValue = oldValue == null ? value : remappingFunction.apply(oldValue, value);
+        if (newValue == null) {
+            remove(key);
+        } else {
+            put(key, newValue);
+        }
+        return newValue;
+    }
 
     interface Entity<K, V> {
         K getKey();
@@ -18,4 +83,4 @@ public interface Map<K, V> extends Iterable<Map.Entity<K, V>> {
 
         void setValue(V value);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package ua.yelisieiev.interfaces;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// FIFO hand-off between threads, null values aren't allowed since poll() returns null for an empty queue;
+// the implementations say how many threads may offer and poll at the same time
+public interface Queue<V> {
+    // false if a bounded queue is full
+    boolean offer(V value);
+
+    // null if the queue is empty
+    V poll();
+
+    // the head without removing it, null if the queue is empty
+    V peek();
+
+    // only an estimate while other threads offer or poll
+    int size();
+
+    boolean isEmpty();
+
+    // polls up to limit values into the consumer, returns how many were polled;
+    // implementations may move the batch with fewer synchronizing writes
+    default int drain(Consumer<? super V> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        int count = 0;
+        V value;
+        while (count < limit && (value = poll()) != null) {
+            count++;
+            consumer.accept(value);
+        }
+        return count;
+    }
+
+    default int drain(Consumer<? super V> consumer) {
+        return drain(consumer, Integer.MAX_VALUE);
+    }
+}
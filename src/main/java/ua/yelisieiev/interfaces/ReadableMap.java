@@ -0,0 +1,35 @@
+package ua.yelisieiev.interfaces;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// the read side of a map, implemented by the immutable maps as well
+public interface ReadableMap<K, V> extends Iterable<Map.Entity<K, V>> {
+    V get(K key);
+
+    boolean containsKey(K key);
+
+    int size();
+
+    default V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return value != null || containsKey(key) ? value : defaultValue;
+    }
+
+    // sized, splits the iterator in batches; maps that know their layout split it by ranges,
+    // maps with an inexact size or concurrent updates don't report SIZED
+    @Override
+    default Spliterator<Map.Entity<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    default Stream<Map.Entity<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<Map.Entity<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
@@ -0,0 +1,18 @@
+package ua.yelisieiev.interfaces;
+
+// map that keeps its keys ordered, its iterator returns the entities in ascending key order
+public interface SortedMap<K, V> extends Map<K, V> {
+    // throw NoSuchElementException on an empty map
+    K firstKey();
+
+    K lastKey();
+
+    // greatest key less than or equal to the given one, null if there is none
+    K floorKey(K key);
+
+    // least key greater than or equal to the given one, null if there is none
+    K ceilingKey(K key);
+
+    // entities with fromKey <= key < toKey in ascending order, a null bound leaves that side open
+    Iterable<Entity<K, V>> range(K fromKey, K toKey);
+}
@@ -0,0 +1,96 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.implementations.MyLinkedList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+// bulk operations against the element by element loops they replace
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkListOperationsBenchmark {
+    @Param({"MyArrayList", "MyLinkedList"})
+    private String implementation;
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> list;
+    private List<Integer> added;
+
+    @Setup(Level.Invocation)
+    public void fillLists() {
+        list = createList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        added = createList();
+        for (int i = 0; i < 1000; i++) {
+            added.add(i);
+        }
+    }
+
+    private List<Integer> createList() {
+        return implementation.equals("MyArrayList") ? new MyArrayList<>() : new MyLinkedList<>();
+    }
+
+    @Benchmark
+    public List<Integer> addAllInMiddle() {
+        list.addAll(added, size / 2);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> addOneByOneInMiddle() {
+        int index = size / 2;
+        for (Integer value : added) {
+            list.add(value, index++);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeIf() {
+        list.removeIf(value -> value % 2 == 0);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeByIterator() {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeRangeInMiddle() {
+        list.removeRange(size / 4, size / 4 + 1000);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeOneByOneInMiddle() {
+        for (int i = 0; i < 1000; i++) {
+            list.remove(size / 4);
+        }
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BulkListOperationsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.ConcurrentMyMap;
+import ua.yelisieiev.implementations.MyMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+// puts from several threads into one map, against a MyMap behind a lock;
+// every iteration starts from an empty map, each thread cycles through its own keys, so the first lap
+// inserts and resizes and the later ones replace; change the thread count with -t
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentMapPutBenchmark {
+    private static final int KEYS_PER_THREAD = 1 << 18;
+
+    @Param({"ConcurrentMyMap", "LockedMyMap"})
+    private String implementation;
+
+    private Map<Integer, Integer> map;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (implementation) {
+            case "ConcurrentMyMap":
+                map = new ConcurrentMyMap<>();
+                break;
+            case "LockedMyMap":
+                map = new LockedMap<>(new MyMap<>());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+        private Integer[] keys;
+        private int next;
+
+        @Setup
+        public void generate(ThreadParams threadParams) {
+            keys = new Integer[KEYS_PER_THREAD];
+            int offset = threadParams.getThreadIndex() * KEYS_PER_THREAD;
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                keys[i] = offset + i;
+            }
+        }
+
+        private Integer nextKey() {
+            Integer key = keys[next];
+            next = (next + 1) & (KEYS_PER_THREAD - 1);
+            return key;
+        }
+    }
+
+    @Benchmark
+    public Integer put(Keys keys) {
+        Integer key = keys.nextKey();
+        return map.put(key, key);
+    }
+
+    // the way it was done before ConcurrentMyMap; the iterator isn't locked, the benchmark doesn't use it
+    private static class LockedMap<K, V> implements Map<K, V> {
+        private final Map<K, V> map;
+
+        private LockedMap(Map<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public synchronized V put(K key, V value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        public synchronized boolean containsKey(K key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public synchronized V remove(K key) {
+            return map.remove(key);
+        }
+
+        @Override
+        public synchronized int size() {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<Entity<K, V>> iterator() {
+            return map.iterator();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConcurrentMapPutBenchmark.class.getSimpleName()).build()).run();
+    }
+}
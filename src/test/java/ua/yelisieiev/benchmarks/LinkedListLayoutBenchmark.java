@@ -0,0 +1,76 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyLinkedList;
+import ua.yelisieiev.implementations.UnrolledLinkedList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.concurrent.TimeUnit;
+
+// one node per element against one node per array of elements: iteration and middle inserts;
+// run with -prof gc to compare the allocation per element
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinkedListLayoutBenchmark {
+    @Param({"MyLinkedList", "UnrolledLinkedList"})
+    private String implementation;
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void fillList() {
+        list = createList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    private List<Integer> createList() {
+        return implementation.equals("MyLinkedList") ? new MyLinkedList<>() : new UnrolledLinkedList<>();
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> build() {
+        List<Integer> newList = createList();
+        for (int i = 0; i < size; i++) {
+            newList.add(i);
+        }
+        return newList;
+    }
+
+    // inserting and removing in the middle, the list size stays the same
+    @Benchmark
+    public int middleInsertAndRemove() {
+        int index = list.size() / 2;
+        for (int i = 0; i < 100; i++) {
+            list.add(i, index + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            list.remove(index);
+        }
+        return list.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LinkedListLayoutBenchmark.class.getSimpleName()).build()).run();
+    }
+}
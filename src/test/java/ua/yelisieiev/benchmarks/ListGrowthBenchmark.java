@@ -0,0 +1,42 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.implementations.SegmentedList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.concurrent.TimeUnit;
+
+// building a big list from empty: copying grows against added chunks;
+// run with -prof gc to compare the allocation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListGrowthBenchmark {
+    @Param({"MyArrayList", "SegmentedList"})
+    private String implementation;
+
+    @Param({"10000000"})
+    private int size;
+
+    private final Integer element = 42;
+
+    @Benchmark
+    public List<Integer> build() {
+        List<Integer> list = implementation.equals("MyArrayList") ? new MyArrayList<>() : new SegmentedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ListGrowthBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.implementations.MyLinkedList;
+
+import java.util.concurrent.TimeUnit;
+
+// indexed access to a linked list: walking from the nearest end or the last accessed node
+// keeps loops over indexes linear instead of quadratic; MyArrayList is the reference
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyLinkedListIndexBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private MyLinkedList<Integer> linkedList;
+    private MyArrayList<Integer> arrayList;
+
+    @Setup
+    public void fillLists() {
+        linkedList = new MyLinkedList<>();
+        arrayList = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            linkedList.add(i);
+            arrayList.add(i);
+        }
+    }
+
+    @Benchmark
+    public long linkedListSequentialGet() {
+        long sum = 0;
+        for (int i = 0; i < linkedList.size(); i++) {
+            sum += linkedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedListReverseGet() {
+        long sum = 0;
+        for (int i = linkedList.size() - 1; i >= 0; i--) {
+            sum += linkedList.get(i);
+        }
+        return sum;
+    }
+
+    // inserting and removing at the same index near the tail, the list size stays the same
+    @Benchmark
+    public int linkedListAddRemoveNearTail() {
+        int index = linkedList.size() - 10;
+        for (int i = 0; i < 1000; i++) {
+            linkedList.add(i, index);
+            linkedList.remove(index);
+        }
+        return linkedList.size();
+    }
+
+    @Benchmark
+    public long arrayListSequentialGet() {
+        long sum = 0;
+        for (int i = 0; i < arrayList.size(); i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MyLinkedListIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
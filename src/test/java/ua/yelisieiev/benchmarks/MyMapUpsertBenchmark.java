@@ -0,0 +1,65 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyMap;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// counting words: get-then-put hashes and scans the bucket twice, merge()/compute() only once
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyMapUpsertBenchmark {
+    @Param({"1000", "100000"})
+    private int distinctKeys;
+
+    private String[] words;
+
+    @Setup
+    public void generateWords() {
+        Random random = new Random(42);
+        words = new String[10_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "word" + random.nextInt(distinctKeys);
+        }
+    }
+
+    @Benchmark
+    public MyMap<String, Integer> getThenPut() {
+        MyMap<String, Integer> counts = new MyMap<>();
+        for (String word : words) {
+            Integer count = counts.get(word);
+            counts.put(word, count == null ? 1 : count + 1);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public MyMap<String, Integer> merge() {
+        MyMap<String, Integer> counts = new MyMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public MyMap<String, Integer> compute() {
+        MyMap<String, Integer> counts = new MyMap<>();
+        for (String word : words) {
+            counts.compute(word, (key, count) -> count == null ? 1 : count + 1);
+        }
+        return counts;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MyMapUpsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.LongArrayList;
+import ua.yelisieiev.implementations.MyArrayList;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+// boxed against primitive buffers of samples; run with -prof gc to compare the allocation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    private MyArrayList<Long> boxedList;
+    private LongArrayList primitiveList;
+
+    @Setup
+    public void fillLists() {
+        boxedList = buildBoxed();
+        primitiveList = buildPrimitive();
+    }
+
+    @Benchmark
+    public MyArrayList<Long> buildBoxed() {
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (long i = 0; i < size; i++) {
+            // values beyond the Long cache, like real samples
+            list.add(i * 1000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LongArrayList buildPrimitive() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 0; i < size; i++) {
+            list.add(i * 1000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (Long value : boxedList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        PrimitiveIterator.OfLong iterator = primitiveList.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PrimitiveListBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MpmcArrayQueue;
+import ua.yelisieiev.implementations.MpscLinkedQueue;
+import ua.yelisieiev.implementations.MyLinkedList;
+import ua.yelisieiev.implementations.SpscArrayQueue;
+import ua.yelisieiev.interfaces.Queue;
+
+import java.util.concurrent.TimeUnit;
+
+// one producer and one consumer thread handing values over, against a MyLinkedList behind a lock;
+// an offer to a full queue or a poll of an empty one isn't retried, the counters show the successful ones;
+// run with -tg 3,1 to have several producers (not for the SPSC queue) and with -prof gc for the allocation
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class QueueThroughputBenchmark {
+    @Param({"LockedLinkedList", "MpscLinkedQueue", "MpmcArrayQueue", "SpscArrayQueue"})
+    private String implementation;
+
+    @Param({"1024"})
+    private int capacity;
+
+    private final Integer element = 42;
+    private Queue<Integer> queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (implementation) {
+            case "LockedLinkedList":
+                queue = new LockedLinkedListQueue<>();
+                break;
+            case "MpscLinkedQueue":
+                queue = new MpscLinkedQueue<>();
+                break;
+            case "MpmcArrayQueue":
+                queue = new MpmcArrayQueue<>(capacity);
+                break;
+            case "SpscArrayQueue":
+                queue = new SpscArrayQueue<>(capacity);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            polled = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(1)
+    public void offer(Counters counters) {
+        if (queue.offer(element)) {
+            counters.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(1)
+    public void poll(Counters counters) {
+        if (queue.poll() != null) {
+            counters.polled++;
+        }
+    }
+
+    // the way it was done before the queues, unbounded like the linked queue
+    private static class LockedLinkedListQueue<V> implements Queue<V> {
+        private final MyLinkedList<V> list = new MyLinkedList<>();
+
+        @Override
+        public synchronized boolean offer(V value) {
+            list.add(value);
+            return true;
+        }
+
+        @Override
+        public synchronized V poll() {
+            return list.isEmpty() ? null : list.remove(0);
+        }
+
+        @Override
+        public synchronized V peek() {
+            return list.isEmpty() ? null : list.get(0);
+        }
+
+        @Override
+        public synchronized int size() {
+            return list.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return list.isEmpty();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(QueueThroughputBenchmark.class.getSimpleName()).build()).run();
+    }
+}
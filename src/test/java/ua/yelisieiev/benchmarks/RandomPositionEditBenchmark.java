@@ -0,0 +1,55 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.implementations.TreeList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// inserts and removes at random positions of a big list, the list size stays the same
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomPositionEditBenchmark {
+    @Param({"MyArrayList", "TreeList"})
+    private String implementation;
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Integer> list;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void fillList() {
+        List<Integer> arrayList = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+        }
+        list = implementation.equals("MyArrayList") ? arrayList : TreeList.fromList(arrayList);
+    }
+
+    @Benchmark
+    public int insertAndRemove() {
+        list.add(0, random.nextInt(size));
+        list.remove(random.nextInt(size));
+        return list.size();
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(random.nextInt(size));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RandomPositionEditBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.CopyOnWriteList;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.concurrent.TimeUnit;
+
+// a listener registry iterated by every thread: a copy-on-write list against
+// a MyArrayList locked around the iteration; run with -t 1, 2, 4, ... to see the scaling
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ReadMostlyListBenchmark {
+    @Param({"16"})
+    private int listeners;
+
+    private List<Integer> copyOnWriteList;
+    private List<Integer> lockedList;
+
+    @Setup
+    public void setUp() {
+        copyOnWriteList = new CopyOnWriteList<>();
+        lockedList = new MyArrayList<>();
+        for (int i = 0; i < listeners; i++) {
+            copyOnWriteList.add(i);
+            lockedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public int copyOnWrite() {
+        int sum = 0;
+        for (Integer listener : copyOnWriteList) {
+            sum += listener;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int locked() {
+        int sum = 0;
+        synchronized (lockedList) {
+            for (Integer listener : lockedList) {
+                sum += listener;
+            }
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReadMostlyListBenchmark.class.getSimpleName()).build()).run();
+    }
+}
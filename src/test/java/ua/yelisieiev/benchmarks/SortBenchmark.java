@@ -0,0 +1,70 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.implementations.MyLinkedList;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// sorting shuffled integers: in place, fork/join and relinking the nodes;
+// the parallel sort only pays off with several cores, run with -prof gc to compare the allocation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Integer[] shuffled;
+    private MyArrayList<Integer> arrayList;
+    private MyLinkedList<Integer> linkedList;
+
+    @Setup(Level.Trial)
+    public void shuffle() {
+        Random random = new Random(42);
+        shuffled = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            shuffled[i] = random.nextInt();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        arrayList = new MyArrayList<>(size);
+        linkedList = new MyLinkedList<>();
+        for (Integer value : shuffled) {
+            arrayList.add(value);
+            linkedList.add(value);
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> arrayListSort() {
+        arrayList.sort(Comparator.naturalOrder());
+        return arrayList;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> arrayListParallelSort() {
+        arrayList.parallelSort(Comparator.naturalOrder());
+        return arrayList;
+    }
+
+    @Benchmark
+    public MyLinkedList<Integer> linkedListSort() {
+        linkedList.sort(Comparator.naturalOrder());
+        return linkedList;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SortBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package ua.yelisieiev.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.implementations.MyLinkedList;
+import ua.yelisieiev.implementations.MyMap;
+import ua.yelisieiev.interfaces.List;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.concurrent.TimeUnit;
+
+// sum over a stream and a parallel stream of each structure;
+// the parallel gain depends on the cores and on how evenly the spliterator splits
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamReductionBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private List<Integer> arrayList;
+    private List<Integer> linkedList;
+    private Map<Integer, Integer> map;
+
+    @Setup
+    public void setUp() {
+        arrayList = new MyArrayList<>();
+        linkedList = new MyLinkedList<>();
+        map = new MyMap<>();
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+            linkedList.add(i);
+            map.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public long arrayListSequential() {
+        return arrayList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayListParallel() {
+        return arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedListSequential() {
+        return linkedList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedListParallel() {
+        return linkedList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long mapSequential() {
+        return map.stream().mapToLong(Map.Entity::getValue).sum();
+    }
+
+    @Benchmark
+    public long mapParallel() {
+        return map.parallelStream().mapToLong(Map.Entity::getValue).sum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StreamReductionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
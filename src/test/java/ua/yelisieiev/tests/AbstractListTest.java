@@ -8,6 +8,9 @@ import ua.yelisieiev.interfaces.List;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -394,4 +397,195 @@ public abstract class AbstractListTest {
         iterator.remove();
         assertThrows(IllegalStateException.class, iterator::remove);
     }
+
+    // bulk operations
+    @DisplayName("Add all the elements of another list to the end")
+    @Test
+    public void testAddAll_ToEnd() {
+        List<String> added = createList();
+        added.add("D");
+        added.add("E");
+        listOfThree.addAll(added);
+        assertEquals("[A, B, C, D, E]", listOfThree.toString());
+    }
+
+    @DisplayName("Add all the elements of another list at the start and in the middle")
+    @Test
+    public void testAddAll_ByIndex() {
+        List<String> added = new MyArrayList<>();
+        added.add("D");
+        added.add(null);
+        listOfThree.addAll(added, 1);
+        assertEquals("[A, D, null, B, C]", listOfThree.toString());
+        listOfThree.addAll(added, 0);
+        assertEquals("[D, null, A, D, null, B, C]", listOfThree.toString());
+        assertEquals("B", listOfThree.get(5));
+    }
+
+    @DisplayName("Add all of an empty list changes nothing, add all of itself doubles the list")
+    @Test
+    public void testAddAll_EmptyAndSelf() {
+        listOfThree.addAll(createList(), 2);
+        assertEquals("[A, B, C]", listOfThree.toString());
+        listOfThree.addAll(listOfThree, 1);
+        assertEquals("[A, A, B, C, B, C]", listOfThree.toString());
+    }
+
+    @DisplayName("Add all by an index out of [0, size] - throws IndexOutOfBoundsException")
+    @Test
+    public void testAddAll_IndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfThree.addAll(createList(), 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfThree.addAll(createList(), -1));
+    }
+
+    @DisplayName("Remove a range from the middle, an empty range and everything")
+    @Test
+    public void testRemoveRange() {
+        listOfThree.add("D");
+        listOfThree.removeRange(1, 3);
+        assertEquals("[A, D]", listOfThree.toString());
+        listOfThree.removeRange(1, 1);
+        assertEquals(2, listOfThree.size());
+        listOfThree.removeRange(0, 2);
+        assertTrue(listOfThree.isEmpty());
+        listOfThree.add("E");
+        assertEquals("[E]", listOfThree.toString());
+    }
+
+    @DisplayName("Remove a range out of bounds or reversed - throws IndexOutOfBoundsException")
+    @Test
+    public void testRemoveRange_IndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfThree.removeRange(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfThree.removeRange(1, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfThree.removeRange(2, 1));
+        assertEquals(3, listOfThree.size());
+    }
+
+    @DisplayName("Remove if removes the matching elements and tells if there were any")
+    @Test
+    public void testRemoveIf() {
+        listOfThree.add(null);
+        listOfThree.add("B");
+        assertTrue(listOfThree.removeIf(value -> value == null || value.equals("B")));
+        assertEquals("[A, C]", listOfThree.toString());
+        assertFalse(listOfThree.removeIf(value -> value.equals("Z")));
+        assertEquals(2, listOfThree.size());
+    }
+
+    @DisplayName("Retain all keeps only the elements of the other list")
+    @Test
+    public void testRetainAll() {
+        List<String> retained = new MyArrayList<>();
+        retained.add("C");
+        retained.add("A");
+        retained.add("Z");
+        assertTrue(listOfThree.retainAll(retained));
+        assertEquals("[A, C]", listOfThree.toString());
+        assertFalse(listOfThree.retainAll(retained));
+    }
+
+    @DisplayName("Random single and bulk operations agree with java.util.ArrayList")
+    @Test
+    public void testRandomOperations() {
+        List<String> list = createList();
+        java.util.List<String> expected = new java.util.ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(13);
+            String value = String.valueOf(i);
+            if (operation < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(value, index);
+                expected.add(index, value);
+            } else if (operation < 4) {
+                list.add(value);
+                expected.add(value);
+            } else if (operation < 6) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation < 7) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), list.set(value, index));
+            } else if (operation < 9) {
+                // neighbouring indexes, the way loops access lists
+                int index = random.nextInt(expected.size());
+                for (int j = index; j < Math.min(expected.size(), index + 3); j++) {
+                    assertEquals(expected.get(j), list.get(j));
+                }
+            } else if (operation < 10) {
+                int removedIndex = random.nextInt(expected.size());
+                Iterator<String> iterator = list.iterator();
+                for (int j = 0; j <= removedIndex; j++) {
+                    assertEquals(expected.get(j), iterator.next());
+                }
+                iterator.remove();
+                expected.remove(removedIndex);
+            } else if (operation < 11) {
+                int index = random.nextInt(expected.size() + 1);
+                List<String> added = createList();
+                for (int j = 0; j < random.nextInt(5); j++) {
+                    added.add(value + "." + j);
+                }
+                list.addAll(added, index);
+                for (String addedValue : added) {
+                    expected.add(index++, addedValue);
+                }
+            } else if (operation < 12) {
+                int fromIndex = random.nextInt(expected.size() + 1);
+                int toIndex = Math.min(expected.size(), fromIndex + random.nextInt(5));
+                list.removeRange(fromIndex, toIndex);
+                expected.subList(fromIndex, toIndex).clear();
+            } else {
+                int divisor = 2 + random.nextInt(10);
+                assertEquals(expected.removeIf(element -> element.hashCode() % divisor == 0),
+                        list.removeIf(element -> element.hashCode() % divisor == 0));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        Iterator<String> iterator = list.iterator();
+        for (String value : expected) {
+            assertEquals(value, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    // streams
+    @DisplayName("Stream and parallel stream see the elements in order")
+    @Test
+    public void testStream_SequentialAndParallel_InOrder() {
+        for (int i = 0; i < 1000; i++) {
+            listOfThree.add("V" + i);
+        }
+        java.util.List<String> expected = new java.util.ArrayList<>();
+        for (String value : listOfThree) {
+            expected.add(value);
+        }
+        assertEquals(expected, listOfThree.stream().collect(Collectors.toList()));
+        assertEquals(expected, listOfThree.parallelStream().collect(Collectors.toList()));
+        assertEquals(listOfThree.stream().mapToInt(String::length).sum(),
+                listOfThree.parallelStream().mapToInt(String::length).sum());
+        assertEquals(0, createList().stream().count());
+    }
+
+    @DisplayName("Spliterator knows the size and its splits cover every element once")
+    @Test
+    public void testSpliterator_Split_CoversEveryElement() {
+        for (int i = 0; i < 1000; i++) {
+            listOfThree.add("V" + i);
+        }
+        Spliterator<String> spliterator = listOfThree.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(listOfThree.size(), spliterator.getExactSizeIfKnown());
+        java.util.List<String> seen = new java.util.ArrayList<>();
+        Spliterator<String> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            prefix.forEachRemaining(seen::add);
+        }
+        spliterator.forEachRemaining(seen::add);
+        assertEquals(listOfThree.size(), seen.size());
+        for (int i = 0; i < seen.size(); i++) {
+            assertEquals(listOfThree.get(i), seen.get(i));
+        }
+    }
 }
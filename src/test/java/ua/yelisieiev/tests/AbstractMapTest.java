@@ -0,0 +1,361 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class AbstractMapTest {
+    protected final Map<Integer, String> testMap = createMap();
+
+    protected abstract Map<Integer, String> createMap();
+
+    @BeforeEach
+    void fillMapWith123() {
+        testMap.put(1, "One");
+        testMap.put(2, "Two");
+        testMap.put(3, "Three");
+    }
+
+    // put
+    @DisplayName("Put a new nonnull key with nonnull value and see that the size increases")
+    @Test
+    void test_put_NonNullKey_nonNullValue_sizeIncreased() {
+        testMap.put(9, "Nine");
+        assertEquals(4, testMap.size());
+    }
+
+    @DisplayName("Put a new nonnull key with nonnull value and see that old value is null")
+    @Test
+    void test_put_NonNullKey_nonNullValue_keyNotExist() {
+        String oldValue = testMap.put(9, "Nine");
+        assertNull(oldValue);
+    }
+
+    @DisplayName("Put an existing nonnull key with a nonnull value and see that the old value is returned")
+    @Test
+    void test_put_NonNullKey_nonNullValue_keyExists() {
+        String oldValue = testMap.put(2, "TwoTwo");
+        assertEquals("Two", oldValue);
+    }
+
+    @DisplayName("Put a new pair that the internal array grows and see that all the pairs are still accessible")
+    @Test
+    void test_GrowInternalArray_AndGetSameValues() {
+        String oldValue = testMap.put(9, "Nine");
+        assertEquals("One", testMap.get(1));
+        assertEquals("Two", testMap.get(2));
+        assertEquals("Three", testMap.get(3));
+        assertEquals("Nine", testMap.get(9));
+    }
+
+    // get
+    @DisplayName("Get an existing pair for nonnull key and see that the value is correct")
+    @Test
+    void test_getExistingNonNullKey_nonNullValue() {
+        assertEquals("One", testMap.get(1));
+    }
+
+    @DisplayName("Get a pair with nonnull key and null value")
+    @Test
+    void test_getExistingNonNullKey_NullValue() {
+        testMap.put(0, null);
+        assertNull(testMap.get(0));
+    }
+
+    @DisplayName("Get a nonexistent pair for nonnull key and see that null is returned")
+    @Test
+    void test_getNonExistingNonNullKey_nullResult() {
+        assertNull(testMap.get(9));
+    }
+
+    @DisplayName("Get by null key - throws NPE")
+    @Test
+    void testGetNullKey_NPE() {
+        assertThrows(NullPointerException.class, () -> testMap.get(null));
+    }
+
+    // containsKey
+    @DisplayName("Map contains known key")
+    @Test
+    void test_containsNonNullKey() {
+        assertTrue(testMap.containsKey(1));
+    }
+
+    @DisplayName("Nonexistent key is not found")
+    @Test
+    void test_notContainsNonNullKey() {
+        assertFalse(testMap.containsKey(9));
+    }
+
+    @DisplayName("Check for a null key - throws NPE")
+    @Test
+    void test_containsNullKey_NPE() {
+        assertThrows(NullPointerException.class, () -> testMap.containsKey(null));
+    }
+
+    // remove
+    @DisplayName("Remove existing pair - size decreased")
+    @Test
+    void test_removeExistingNonNullKey_decreaseSize() {
+        testMap.remove(1);
+        assertEquals(2, testMap.size());
+
+    }
+
+    @DisplayName("Remove existing pair with nonnull key, removed value returned")
+    @Test
+    void test_removeExistingNonNullKey_returnsNonNullOldValue() {
+        testMap.put(9, "Nine");
+        assertEquals("Nine", testMap.remove(9));
+    }
+
+    @DisplayName("Remove existing pair with nonnull key and null value, removed value returned")
+    @Test
+    void test_removeExistingNonNullKey_returnsNullOldValue() {
+        testMap.put(0, null);
+        assertNull(testMap.remove(0));
+    }
+
+    @DisplayName("Remove of nonexistent key returns null, size doesn't change")
+    @Test
+    void test_removeNonExistingNonNullKey_returnsNull() {
+        assertNull(testMap.remove(0));
+        assertEquals(3, testMap.size());
+    }
+
+    @DisplayName("Try to remove by null key - throws NPE")
+    @Test
+    void test_removeNullKey_NPE() {
+        assertThrows(NullPointerException.class, () -> testMap.remove(null));
+    }
+
+    // size
+    @DisplayName("The test map size should be 3")
+    @Test
+    void test_sizeIsThree() {
+        assertEquals(3, testMap.size());
+    }
+
+    // iterator
+    @DisplayName("Has next entity on nonempty map")
+    @Test
+    void test_iteratorHasNext() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        assertTrue(iterator.hasNext());
+    }
+
+    @DisplayName("Doesn't have next entity - at the end of the map")
+    @Test
+    void test_iteratorHasNoNext() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        assertFalse(iterator.hasNext());
+    }
+
+    @DisplayName("Entities fetched by iterator are tha same that were put into the map")
+    @Test
+    void test_iteratorNextReturnsActualEntities() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        int[] expectedKeys = {1, 2, 3};
+        int[] fetchedKeys = new int[3];
+        fetchedKeys[0] = iterator.next().getKey();
+        fetchedKeys[1] = iterator.next().getKey();
+        fetchedKeys[2] = iterator.next().getKey();
+        Arrays.sort(fetchedKeys);
+        assertArrayEquals(expectedKeys, fetchedKeys);
+    }
+
+    @DisplayName("Doesn't have next entity - on empty map")
+    @Test
+    void test_iteratorHasNoNextOnEmptyMap() {
+        Iterator<Map.Entity<Integer, String>> iterator = createMap().iterator();
+        assertFalse(iterator.hasNext());
+    }
+
+    @DisplayName("Next on a map that's not at it's end")
+    @Test
+    void test_iteratorNextOnMapNotAtTheEnd() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        assertNotNull(iterator.next());
+    }
+
+    @DisplayName("Throw NoSuchElement at the end of the map")
+    @Test
+    void test_iteratorNextAtTheEnd_NSE() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @DisplayName("Remove on existing element - size decreased")
+    @Test
+    void test_iteratorRemoveExistingElement_sizeDecreased() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(2, testMap.size());
+    }
+
+    @DisplayName("Remove removed element - throws IllegalState")
+    @Test
+    void test_iteratorRemoveRemoved() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @DisplayName("Remove an element before any next() - throws IllegalState")
+    @Test
+    void test_iteratorRemoveElementBeforeAnyNext_IllegalStateException() {
+        Iterator<Map.Entity<Integer, String>> iterator = testMap.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    // getOrDefault, putIfAbsent, compute, merge
+    @DisplayName("getOrDefault returns the value of an existing key, even a null one, and the default otherwise")
+    @Test
+    void test_getOrDefault() {
+        testMap.put(0, null);
+        assertEquals("One", testMap.getOrDefault(1, "Default"));
+        assertNull(testMap.getOrDefault(0, "Default"));
+        assertEquals("Default", testMap.getOrDefault(9, "Default"));
+    }
+
+    @DisplayName("putIfAbsent keeps an existing value and replaces a null one")
+    @Test
+    void test_putIfAbsent_existingNullAndMissingKeys() {
+        testMap.put(0, null);
+        assertEquals("One", testMap.putIfAbsent(1, "Uno"));
+        assertEquals("One", testMap.get(1));
+        assertNull(testMap.putIfAbsent(0, "Zero"));
+        assertEquals("Zero", testMap.get(0));
+        assertNull(testMap.putIfAbsent(9, "Nine"));
+        assertEquals("Nine", testMap.get(9));
+        assertEquals(5, testMap.size());
+    }
+
+    @DisplayName("computeIfAbsent calls the function only for a missing key and doesn't add a null result")
+    @Test
+    void test_computeIfAbsent_missingKeysOnly() {
+        assertEquals("One", testMap.computeIfAbsent(1, key -> fail("Must not be called")));
+        assertEquals("9", testMap.computeIfAbsent(9, String::valueOf));
+        assertNull(testMap.computeIfAbsent(10, key -> null));
+        assertFalse(testMap.containsKey(10));
+        assertEquals(4, testMap.size());
+    }
+
+    @DisplayName("computeIfPresent replaces an existing value and removes it on a null result")
+    @Test
+    void test_computeIfPresent() {
+        assertEquals("OneOne", testMap.computeIfPresent(1, (key, value) -> value + value));
+        assertEquals("OneOne", testMap.get(1));
+        assertNull(testMap.computeIfPresent(2, (key, value) -> null));
+        assertFalse(testMap.containsKey(2));
+        assertNull(testMap.computeIfPresent(9, (key, value) -> fail("Must not be called")));
+        assertFalse(testMap.containsKey(9));
+        assertEquals(2, testMap.size());
+    }
+
+    @DisplayName("computeIfPresent leaves a key mapped to null as it is and doesn't call the function")
+    @Test
+    void test_computeIfPresent_nullValue() {
+        testMap.put(0, null);
+        assertNull(testMap.computeIfPresent(0, (key, value) -> fail("Must not be called")));
+        assertTrue(testMap.containsKey(0));
+        assertNull(testMap.get(0));
+        assertEquals(4, testMap.size());
+    }
+
+    @DisplayName("compute adds, replaces and removes values")
+    @Test
+    void test_compute() {
+        assertEquals("9", testMap.compute(9, (key, value) -> value == null ? String.valueOf(key) : value));
+        assertEquals("One!", testMap.compute(1, (key, value) -> value + "!"));
+        assertNull(testMap.compute(2, (key, value) -> null));
+        assertNull(testMap.compute(10, (key, value) -> null));
+        assertEquals("One!", testMap.get(1));
+        assertEquals("9", testMap.get(9));
+        assertFalse(testMap.containsKey(2));
+        assertFalse(testMap.containsKey(10));
+        assertEquals(3, testMap.size());
+    }
+
+    @DisplayName("merge puts the value for a missing key, combines it with an existing one and removes on a null result")
+    @Test
+    void test_merge() {
+        assertEquals("Nine", testMap.merge(9, "Nine", String::concat));
+        assertEquals("OneUno", testMap.merge(1, "Uno", String::concat));
+        assertNull(testMap.merge(2, "Dos", (oldValue, value) -> null));
+        assertEquals("OneUno", testMap.get(1));
+        assertFalse(testMap.containsKey(2));
+        assertEquals(3, testMap.size());
+        assertThrows(NullPointerException.class, () -> testMap.merge(3, null, String::concat));
+    }
+
+    @DisplayName("merge counts occurrences across the growth of the map")
+    @Test
+    void test_merge_counting() {
+        for (int i = 0; i < 500; i++) {
+            testMap.merge(100 + i % 50, "x", String::concat);
+        }
+        assertEquals(53, testMap.size());
+        for (int i = 100; i < 150; i++) {
+            assertEquals("x".repeat(10), testMap.get(i));
+        }
+    }
+
+    @DisplayName("stream and parallelStream see every entity once")
+    @Test
+    void test_stream() {
+        for (int i = 10; i < 1000; i++) {
+            testMap.put(i, "V" + i);
+        }
+        int expectedSum = 0;
+        for (Map.Entity<Integer, String> entity : testMap) {
+            expectedSum += entity.getKey();
+        }
+        assertEquals(expectedSum, testMap.stream().mapToInt(Map.Entity::getKey).sum());
+        assertEquals(expectedSum, testMap.parallelStream().mapToInt(Map.Entity::getKey).sum());
+        assertEquals(testMap.size(), testMap.parallelStream().map(Map.Entity::getKey).collect(Collectors.toSet()).size());
+        assertEquals("V999", testMap.stream().filter(entity -> entity.getKey() == 999)
+                .map(Map.Entity::getValue).findFirst().orElse(null));
+    }
+
+    @DisplayName("Spliterator splits cover every entity once")
+    @Test
+    void test_spliterator_split() {
+        for (int i = 10; i < 1000; i++) {
+            testMap.put(i, "V" + i);
+        }
+        java.util.Set<Integer> seen = new java.util.HashSet<>();
+        java.util.Deque<Spliterator<Map.Entity<Integer, String>>> pending = new java.util.ArrayDeque<>();
+        pending.push(testMap.spliterator());
+        int splits = 0;
+        while (!pending.isEmpty()) {
+            Spliterator<Map.Entity<Integer, String>> spliterator = pending.pop();
+            Spliterator<Map.Entity<Integer, String>> prefix = splits < 16 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                splits++;
+                pending.push(prefix);
+                pending.push(spliterator);
+            } else {
+                spliterator.forEachRemaining(entity -> assertTrue(seen.add(entity.getKey())));
+            }
+        }
+        assertEquals(testMap.size(), seen.size());
+    }
+}
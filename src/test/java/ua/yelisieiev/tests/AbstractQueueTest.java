@@ -0,0 +1,209 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import ua.yelisieiev.interfaces.Queue;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public abstract class AbstractQueueTest {
+    private static final int PER_PRODUCER = 20000;
+
+    // bounded queues get at least the capacity asked for
+    protected abstract Queue<Integer> createQueue(int capacity);
+
+    protected abstract int producers();
+
+    protected abstract int consumers();
+
+    // unbounded queues ignore the capacity and skip the tests of a full queue
+    protected boolean bounded() {
+        return true;
+    }
+
+    @DisplayName("Values come out in the order they were offered")
+    @Test
+    void test_offerPoll_fifo() {
+        Queue<Integer> queue = createQueue(16);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(10, queue.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @DisplayName("Poll and peek on an empty queue return null")
+    @Test
+    void test_poll_empty() {
+        Queue<Integer> queue = createQueue(4);
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        queue.offer(1);
+        queue.poll();
+        assertNull(queue.poll());
+    }
+
+    @DisplayName("Offer a null - throws NullPointerException")
+    @Test
+    void test_offer_null() {
+        Queue<Integer> queue = createQueue(4);
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @DisplayName("Queue keeps the order over many laps of offers and polls")
+    @Test
+    void test_offerPoll_manyLaps() {
+        Queue<Integer> queue = createQueue(4);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(i));
+        }
+        for (int i = 3; i < 1000; i++) {
+            assertTrue(queue.offer(i));
+            assertEquals(i - 3, queue.poll());
+            assertEquals(3, queue.size());
+        }
+    }
+
+    @DisplayName("Offer fails on a full queue and succeeds again after a poll, over several laps")
+    @Test
+    void test_offer_full() {
+        assumeTrue(bounded());
+        Queue<Integer> queue = createQueue(5);
+        int capacity = 0;
+        while (queue.offer(capacity)) {
+            capacity++;
+        }
+        assertTrue(capacity >= 5);
+        assertEquals(capacity, queue.size());
+        for (int i = capacity; i < capacity * 4; i++) {
+            assertEquals(i - capacity, queue.poll());
+            assertTrue(queue.offer(i));
+            assertFalse(queue.offer(-1));
+            assertEquals(capacity, queue.size());
+        }
+    }
+
+    @DisplayName("Capacity that isn't positive - throws IllegalArgumentException")
+    @Test
+    void test_create_badCapacity() {
+        assumeTrue(bounded());
+        assertThrows(IllegalArgumentException.class, () -> createQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> createQueue(-1));
+    }
+
+    @DisplayName("Drain polls up to the limit and reports the count")
+    @Test
+    void test_drain() {
+        Queue<Integer> queue = createQueue(16);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        java.util.List<Integer> drained = new ArrayList<>();
+        assertEquals(4, queue.drain(drained::add, 4));
+        assertEquals(java.util.List.of(0, 1, 2, 3), drained);
+        assertEquals(6, queue.drain(drained::add));
+        assertEquals(10, drained.size());
+        assertEquals(9, drained.get(9));
+        assertEquals(0, queue.drain(drained::add));
+        assertTrue(queue.isEmpty());
+    }
+
+    @DisplayName("Drain keeps the values after the one whose consumer threw")
+    @Test
+    void test_drain_consumerThrows() {
+        Queue<Integer> queue = createQueue(16);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        assertThrows(IllegalStateException.class, () -> queue.drain(value -> {
+            if (value == 2) {
+                throw new IllegalStateException();
+            }
+        }));
+        assertEquals(3, queue.poll());
+        assertEquals(4, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @DisplayName("Every value offered by the producer threads is polled once, in the order of its producer")
+    @Test
+    @Timeout(60)
+    void test_concurrentProducersAndConsumers() throws InterruptedException {
+        Queue<Integer> queue = createQueue(64);
+        int producers = producers();
+        int consumers = consumers();
+        int total = producers * PER_PRODUCER;
+        int[] polledCount = new int[1];
+        boolean[] seen = new boolean[total];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[producers + consumers];
+        for (int i = 0; i < producers; i++) {
+            int producer = i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < PER_PRODUCER; j++) {
+                    while (!queue.offer(producer * PER_PRODUCER + j)) {
+                        // the consumers are gone, nobody will make room
+                        if (failure.get() != null) {
+                            return;
+                        }
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int i = 0; i < consumers; i++) {
+            threads[producers + i] = new Thread(() -> {
+                try {
+                    // the last value polled from every producer, a value can only be bigger
+                    int[] last = new int[producers];
+                    java.util.Arrays.fill(last, -1);
+                    while (true) {
+                        synchronized (polledCount) {
+                            if (polledCount[0] == total) {
+                                return;
+                            }
+                        }
+                        Integer value = queue.poll();
+                        if (value == null) {
+                            Thread.yield();
+                            continue;
+                        }
+                        int producer = value / PER_PRODUCER;
+                        assertTrue(value > last[producer]);
+                        last[producer] = value;
+                        synchronized (polledCount) {
+                            assertFalse(seen[value]);
+                            seen[value] = true;
+                            polledCount[0]++;
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                    synchronized (polledCount) {
+                        polledCount[0] = total;
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        assertEquals(total, polledCount[0]);
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.interfaces.Map;
+import ua.yelisieiev.interfaces.SortedMap;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class AbstractSortedMapTest extends AbstractMapTest {
+    @Override
+    protected abstract SortedMap<Integer, String> createMap();
+
+    private SortedMap<Integer, String> sortedMap() {
+        return (SortedMap<Integer, String>) testMap;
+    }
+
+    @DisplayName("First and last keys are the smallest and the greatest ones")
+    @Test
+    void test_firstKey_lastKey() {
+        testMap.put(-5, "Minus five");
+        testMap.put(10, "Ten");
+        assertEquals(-5, sortedMap().firstKey());
+        assertEquals(10, sortedMap().lastKey());
+    }
+
+    @DisplayName("First and last keys of an empty map - throw NoSuchElement")
+    @Test
+    void test_firstKey_lastKey_emptyMap() {
+        SortedMap<Integer, String> map = createMap();
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        assertThrows(NoSuchElementException.class, map::lastKey);
+    }
+
+    @DisplayName("Floor and ceiling keys of present and absent keys")
+    @Test
+    void test_floorKey_ceilingKey() {
+        testMap.put(10, "Ten");
+        assertEquals(3, sortedMap().floorKey(3));
+        assertEquals(3, sortedMap().floorKey(9));
+        assertNull(sortedMap().floorKey(0));
+        assertEquals(10, sortedMap().ceilingKey(4));
+        assertEquals(1, sortedMap().ceilingKey(-1));
+        assertNull(sortedMap().ceilingKey(11));
+    }
+
+    @DisplayName("Iteration goes in ascending key order")
+    @Test
+    void test_iterationOrder() {
+        for (int i = 100; i > 3; i--) {
+            testMap.put(i, String.valueOf(i));
+        }
+        int expectedKey = 1;
+        for (Map.Entity<Integer, String> entity : testMap) {
+            assertEquals(expectedKey++, entity.getKey());
+        }
+        assertEquals(101, expectedKey);
+    }
+
+    @DisplayName("Range returns the keys from the lower bound inclusive to the upper bound exclusive")
+    @Test
+    void test_range() {
+        for (int i = 4; i <= 100; i++) {
+            testMap.put(i, String.valueOf(i));
+        }
+        assertRangeKeys(sortedMap().range(20, 30), 20, 30);
+        assertRangeKeys(sortedMap().range(null, 5), 1, 5);
+        assertRangeKeys(sortedMap().range(95, null), 95, 101);
+        assertRangeKeys(sortedMap().range(-10, 1000), 1, 101);
+        assertRangeKeys(sortedMap().range(50, 50), 50, 50);
+        assertThrows(IllegalArgumentException.class, () -> sortedMap().range(30, 20));
+    }
+
+    @DisplayName("Removing every other entity of a range through its iterator")
+    @Test
+    void test_range_iteratorRemove() {
+        for (int i = 4; i <= 100; i++) {
+            testMap.put(i, String.valueOf(i));
+        }
+        Iterator<Map.Entity<Integer, String>> iterator = sortedMap().range(10, 90).iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(60, testMap.size());
+        for (int i = 1; i <= 100; i++) {
+            assertEquals(i < 10 || i >= 90 || i % 2 != 0, testMap.containsKey(i));
+        }
+    }
+
+    @DisplayName("Random puts, removes and lookups agree with java.util.TreeMap")
+    @Test
+    void test_randomOperations() {
+        SortedMap<Integer, String> map = createMap();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, String.valueOf(i)), map.put(key, String.valueOf(i)));
+            }
+            assertEquals(expected.floorKey(key + 1), map.floorKey(key + 1));
+            assertEquals(expected.ceilingKey(key - 1), map.ceilingKey(key - 1));
+        }
+        assertEquals(expected.size(), map.size());
+        Iterator<java.util.Map.Entry<Integer, String>> expectedIterator = expected.entrySet().iterator();
+        for (Map.Entity<Integer, String> entity : map) {
+            java.util.Map.Entry<Integer, String> expectedEntry = expectedIterator.next();
+            assertEquals(expectedEntry.getKey(), entity.getKey());
+            assertEquals(expectedEntry.getValue(), entity.getValue());
+        }
+        assertFalse(expectedIterator.hasNext());
+    }
+
+    private void assertRangeKeys(Iterable<Map.Entity<Integer, String>> range, int from, int to) {
+        int expectedKey = from;
+        for (Map.Entity<Integer, String> entity : range) {
+            assertEquals(expectedKey++, entity.getKey());
+        }
+        assertEquals(to, expectedKey);
+    }
+}
@@ -0,0 +1,72 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.BTreeMap;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.interfaces.Map;
+import ua.yelisieiev.interfaces.SortedMap;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BTreeMapTest extends AbstractSortedMapTest {
+    @Override
+    protected SortedMap<Integer, String> createMap() {
+        // small nodes make even the short tests split and merge them
+        return new BTreeMap<>(4, null);
+    }
+
+    @DisplayName("Bulk load from sorted entities keeps them all and allows further updates")
+    @Test
+    void test_fromSorted() {
+        MyArrayList<Map.Entity<Integer, String>> entities = new MyArrayList<>();
+        BTreeMap<Integer, String> source = new BTreeMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            source.put(i, String.valueOf(i));
+        }
+        for (Map.Entity<Integer, String> entity : source) {
+            entities.add(entity);
+        }
+        BTreeMap<Integer, String> map = BTreeMap.fromSorted(entities);
+        assertEquals(10_000, map.size());
+        assertEquals(0, map.firstKey());
+        assertEquals(9_999, map.lastKey());
+        for (int i = 0; i < 10_000; i += 2) {
+            assertEquals(String.valueOf(i), map.remove(i));
+        }
+        map.put(10_000, "10000");
+        assertEquals(5_001, map.size());
+        assertEquals(9_997, map.floorKey(9_998));
+        assertEquals(10_000, map.lastKey());
+    }
+
+    @DisplayName("Bulk load from unsorted entities - throws IllegalArgument")
+    @Test
+    void test_fromSorted_unsorted() {
+        BTreeMap<Integer, String> source = new BTreeMap<>(Comparator.reverseOrder());
+        source.put(1, "One");
+        source.put(2, "Two");
+        assertThrows(IllegalArgumentException.class, () -> BTreeMap.fromSorted(source));
+        assertEquals(2, BTreeMap.fromSorted(source, Comparator.reverseOrder()).firstKey());
+    }
+
+    @DisplayName("Comparator defines the order")
+    @Test
+    void test_comparator() {
+        BTreeMap<String, Integer> map = new BTreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        map.put("b", 1);
+        map.put("A", 2);
+        map.put("B", 3);
+        assertEquals(2, map.size());
+        assertEquals(3, map.get("b"));
+        assertEquals("A", map.firstKey());
+    }
+
+    @DisplayName("Capacity less than 3 - throws IllegalArgument")
+    @Test
+    void test_smallCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BTreeMap<Integer, String>(2, null));
+    }
+}
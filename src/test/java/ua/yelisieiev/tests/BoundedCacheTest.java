@@ -0,0 +1,118 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.BoundedCache;
+import ua.yelisieiev.implementations.MyArrayList;
+import ua.yelisieiev.interfaces.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedCacheTest extends AbstractMapTest {
+    @Override
+    protected Map<Integer, String> createMap() {
+        return new BoundedCache<>(100, BoundedCache.EvictionPolicy.TINY_LFU);
+    }
+
+    @DisplayName("LRU evicts the least recently used entry and notifies the listener")
+    @Test
+    void test_lru_evictsLeastRecentlyUsed() {
+        MyArrayList<Integer> evicted = new MyArrayList<>();
+        BoundedCache<Integer, String> cache = new BoundedCache<>(3, (key, value) -> 1,
+                BoundedCache.EvictionPolicy.LRU, (key, value) -> evicted.add(key));
+        cache.put(1, "One");
+        cache.put(2, "Two");
+        cache.put(3, "Three");
+        cache.get(1);
+        cache.put(4, "Four");
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey(2));
+        assertTrue(cache.containsKey(1));
+        assertEquals("[2]", evicted.toString());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @DisplayName("Hits and misses are counted")
+    @Test
+    void test_hitAndMissCounters() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(10);
+        cache.put(1, "One");
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @DisplayName("Total weight never exceeds the maximum weight")
+    @Test
+    void test_weightBound() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(20, (key, value) -> value.length(),
+                BoundedCache.EvictionPolicy.LRU, null);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "x".repeat(i % 7));
+            assertTrue(cache.weight() <= 20);
+        }
+        cache.put(1000, "x".repeat(30));
+        assertFalse(cache.containsKey(1000));
+        assertTrue(cache.weight() <= 20);
+    }
+
+    @DisplayName("TinyLFU keeps frequently used entries while a one-time scan goes through the cache")
+    @Test
+    void test_tinyLfu_resistsScan() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100, BoundedCache.EvictionPolicy.TINY_LFU);
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+        for (int key = 1000; key < 11000; key++) {
+            cache.put(key, key);
+        }
+        int hotKeysLeft = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.containsKey(key)) {
+                hotKeysLeft++;
+            }
+        }
+        assertEquals(100, cache.size());
+        assertTrue(hotKeysLeft >= 45, "Hot keys left: " + hotKeysLeft);
+    }
+
+    @DisplayName("Weighted TinyLFU caches with a huge maximum weight size their sketch by the entries")
+    @Test
+    void test_tinyLfu_hugeMaximumWeight() {
+        // a sketch sized by the weight would take 512 MiB per cache, so these wouldn't fit into the heap
+        MyArrayList<BoundedCache<Integer, String>> caches = new MyArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            BoundedCache<Integer, String> cache = new BoundedCache<>(1L << 40, (key, value) -> value.length(),
+                    BoundedCache.EvictionPolicy.TINY_LFU, null);
+            for (int key = 0; key < 1000; key++) {
+                cache.put(key, "Value" + key);
+            }
+            caches.add(cache);
+        }
+        for (BoundedCache<Integer, String> cache : caches) {
+            assertEquals(1000, cache.size());
+            assertEquals("Value999", cache.get(999));
+        }
+    }
+
+    @DisplayName("Same scan flushes the hot entries out of an LRU cache")
+    @Test
+    void test_lru_flushedByScan() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100, BoundedCache.EvictionPolicy.LRU);
+        for (int key = 0; key < 50; key++) {
+            cache.put(key, key);
+        }
+        for (int key = 1000; key < 1100; key++) {
+            cache.put(key, key);
+        }
+        for (int key = 0; key < 50; key++) {
+            assertFalse(cache.containsKey(key));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.ConcurrentMyMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentMyMapTest extends AbstractMapTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected Map<Integer, String> createMap() {
+        return new ConcurrentMyMap<>(2);
+    }
+
+    @DisplayName("putIfAbsent keeps the existing value")
+    @Test
+    void test_putIfAbsent() {
+        ConcurrentMyMap<Integer, String> map = (ConcurrentMyMap<Integer, String>) testMap;
+        assertEquals("One", map.putIfAbsent(1, "Uno"));
+        assertNull(map.putIfAbsent(9, "Nine"));
+        assertEquals("One", map.get(1));
+        assertEquals("Nine", map.get(9));
+    }
+
+    @DisplayName("Conditional replace and remove only succeed for the expected value")
+    @Test
+    void test_conditionalReplaceAndRemove() {
+        ConcurrentMyMap<Integer, String> map = (ConcurrentMyMap<Integer, String>) testMap;
+        assertFalse(map.replace(1, "Uno", "Eins"));
+        assertTrue(map.replace(1, "One", "Eins"));
+        assertNull(map.replace(9, "Nine"));
+        assertFalse(map.containsKey(9));
+        assertFalse(map.remove(1, "One"));
+        assertTrue(map.remove(1, "Eins"));
+        assertEquals(2, map.size());
+    }
+
+    @DisplayName("computeIfAbsent calls the function once and only for missing keys")
+    @Test
+    void test_computeIfAbsent() {
+        ConcurrentMyMap<Integer, String> map = (ConcurrentMyMap<Integer, String>) testMap;
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals("One", map.computeIfAbsent(1, key -> "X" + calls.incrementAndGet()));
+        assertEquals("X1", map.computeIfAbsent(9, key -> "X" + calls.incrementAndGet()));
+        assertEquals("X1", map.computeIfAbsent(9, key -> "X" + calls.incrementAndGet()));
+        assertNull(map.computeIfAbsent(10, key -> null));
+        assertFalse(map.containsKey(10));
+        assertEquals(1, calls.get());
+    }
+
+    @DisplayName("Null keys are rejected with a NullPointerException")
+    @Test
+    void test_nullKey_throwsNpe() {
+        ConcurrentMyMap<Integer, String> map = (ConcurrentMyMap<Integer, String>) testMap;
+        assertEquals("Key can't be null", assertThrows(NullPointerException.class, () -> map.get(null)).getMessage());
+        assertEquals("Key can't be null", assertThrows(NullPointerException.class, () -> map.put(null, "Null")).getMessage());
+        assertEquals("Key can't be null", assertThrows(NullPointerException.class, () -> map.remove(null)).getMessage());
+        assertThrows(NullPointerException.class, () -> map.computeIfAbsent(null, key -> "Null"));
+        assertEquals(3, map.size());
+    }
+
+    @DisplayName("Sequential keys, which rarely share a bin, stay reachable through the resizes")
+    @Test
+    void test_sequentialKeys_throughResizes() {
+        ConcurrentMyMap<Integer, Integer> map = new ConcurrentMyMap<>(2);
+        for (int key = 0; key < 100_000; key++) {
+            map.put(key, key);
+        }
+        assertEquals(100_000, map.size());
+        for (int key = 0; key < 100_000; key++) {
+            assertEquals(key, map.get(key));
+        }
+    }
+
+    @DisplayName("Concurrent puts from many threads through several resizes lose nothing")
+    @Test
+    void test_concurrentPutsWithResize() throws InterruptedException {
+        ConcurrentMyMap<Integer, Integer> map = new ConcurrentMyMap<>(2);
+        int perThread = 20_000;
+        runInThreads(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                int key = thread * perThread + i;
+                map.put(key, key);
+                assertEquals(key, map.get(key));
+            }
+        });
+        assertEquals(THREADS * perThread, map.size());
+        for (int key = 0; key < THREADS * perThread; key++) {
+            assertEquals(key, map.get(key));
+        }
+        int iterated = 0;
+        for (Map.Entity<Integer, Integer> ignored : map) {
+            iterated++;
+        }
+        assertEquals(THREADS * perThread, iterated);
+    }
+
+    @DisplayName("Concurrent computeIfAbsent on shared keys runs the function once per key")
+    @Test
+    void test_concurrentComputeIfAbsent() throws InterruptedException {
+        ConcurrentMyMap<Integer, Integer> map = new ConcurrentMyMap<>(2);
+        AtomicInteger calls = new AtomicInteger();
+        runInThreads(thread -> {
+            for (int key = 0; key < 5_000; key++) {
+                map.computeIfAbsent(key, k -> {
+                    calls.incrementAndGet();
+                    return k;
+                });
+            }
+        });
+        assertEquals(5_000, calls.get());
+        assertEquals(5_000, map.size());
+    }
+
+    private void runInThreads(IntConsumer task) throws InterruptedException {
+        Thread[] threads = new Thread[THREADS];
+        Throwable[] failure = new Throwable[1];
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            threads[i] = new Thread(() -> task.accept(thread));
+            threads[i].setUncaughtExceptionHandler((t, e) -> failure[0] = e);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure[0]);
+    }
+}
@@ -0,0 +1,115 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.CopyOnWriteList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CopyOnWriteListTest extends AbstractListTest {
+    private static final int THREADS = 4;
+
+    @Override
+    protected List<String> createList() {
+        return new CopyOnWriteList<>();
+    }
+
+    @DisplayName("Iterator sees the elements of the moment it was created")
+    @Test
+    void test_iterator_snapshot() {
+        Iterator<String> iterator = listOfThree.iterator();
+        listOfThree.add("D");
+        listOfThree.remove(0);
+        listOfThree.set("X", 0);
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("[X, C, D]", listOfThree.toString());
+    }
+
+    @DisplayName("Iterator removes the element from the list even after other changes")
+    @Test
+    void test_iterator_remove_afterChanges() {
+        Iterator<String> iterator = listOfThree.iterator();
+        iterator.next();
+        iterator.next();
+        listOfThree.add("Z", 0);
+        iterator.remove();
+        assertEquals("[Z, A, C]", listOfThree.toString());
+        listOfThree.remove(2);
+        iterator.next();
+        iterator.remove();
+        assertEquals("[Z, A]", listOfThree.toString());
+    }
+
+    @DisplayName("Batch applies all its changes at once")
+    @Test
+    void test_batch() {
+        CopyOnWriteList<String> list = new CopyOnWriteList<>(listOfThree);
+        Iterator<String> iterator = list.iterator();
+        list.batch(copy -> {
+            copy.add("E");
+            copy.add("D");
+            copy.remove(0);
+            copy.sort(Comparator.reverseOrder());
+        });
+        assertEquals("[E, D, C, B]", list.toString());
+        assertEquals("A", iterator.next());
+    }
+
+    @DisplayName("Batch that throws leaves the list unchanged")
+    @Test
+    void test_batch_throws() {
+        CopyOnWriteList<String> list = new CopyOnWriteList<>(listOfThree);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.batch(copy -> {
+            copy.add("D");
+            copy.remove(10);
+        }));
+        assertEquals("[A, B, C]", list.toString());
+    }
+
+    @DisplayName("Readers always see complete snapshots while writers add and remove")
+    @Test
+    void test_concurrentReadersAndWriters() throws InterruptedException {
+        CopyOnWriteList<Integer> list = new CopyOnWriteList<>();
+        Thread[] threads = new Thread[THREADS];
+        Throwable[] failure = new Throwable[1];
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 2000; j++) {
+                        if (thread % 2 == 0) {
+                            // pairs are added and removed in one batch, so every snapshot has an even size
+                            list.batch(copy -> {
+                                copy.add(thread);
+                                copy.add(thread);
+                            });
+                            list.batch(copy -> copy.removeRange(0, 2));
+                        } else {
+                            int count = 0;
+                            for (Integer value : list) {
+                                assertNotNull(value);
+                                count++;
+                            }
+                            assertEquals(0, count % 2);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure[0] = e;
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure[0]);
+        assertTrue(list.isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.DoubleArrayList;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayListTest {
+    private final DoubleArrayList testList = new DoubleArrayList(2);
+
+    @DisplayName("NaN can be found and zeros of different signs are different values")
+    @Test
+    void test_indexOfSpecialValues() {
+        testList.addAll(new double[]{0.0, Double.NaN, -0.0});
+        assertEquals(1, testList.indexOf(Double.NaN));
+        assertEquals(0, testList.indexOf(0.0));
+        assertEquals(2, testList.lastIndexOf(-0.0));
+    }
+
+    @DisplayName("Sort puts the values in ascending order, NaN last")
+    @Test
+    void test_sort() {
+        testList.addAll(new double[]{Double.NaN, 2.5, -1.0, 0.5});
+        testList.sort();
+        assertArrayEquals(new double[]{-1.0, 0.5, 2.5, Double.NaN}, testList.toArray());
+    }
+
+    @DisplayName("Primitive iterator and forEach go through the values in order")
+    @Test
+    void test_iteration() {
+        testList.addAll(new double[]{0.5, 1.5, 2.5});
+        testList.set(3.5, 2);
+        double[] sum = new double[1];
+        testList.forEach(value -> sum[0] += value);
+        assertEquals(5.5, sum[0]);
+
+        PrimitiveIterator.OfDouble iterator = testList.iterator();
+        assertEquals(0.5, iterator.nextDouble());
+        iterator.remove();
+        assertEquals(1.5, iterator.nextDouble());
+        assertEquals(3.5, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+        assertEquals(2, testList.size());
+    }
+}
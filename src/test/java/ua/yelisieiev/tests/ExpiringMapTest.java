@@ -0,0 +1,116 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.ExpiringMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpiringMapTest extends AbstractMapTest {
+    private final FakeClock clock = new FakeClock();
+
+    @Override
+    protected Map<Integer, String> createMap() {
+        return new ExpiringMap<>(1, ExpiringMap.NO_EXPIRATION, TimeUnit.HOURS, new FakeClock());
+    }
+
+    @DisplayName("Entry expires after write even if it is read")
+    @Test
+    void test_expireAfterWrite() {
+        ExpiringMap<Integer, String> map = new ExpiringMap<>(10, ExpiringMap.NO_EXPIRATION, TimeUnit.SECONDS, clock);
+        map.put(1, "One");
+        clock.advance(9, TimeUnit.SECONDS);
+        assertEquals("One", map.get(1));
+        clock.advance(1, TimeUnit.SECONDS);
+        assertNull(map.get(1));
+        assertEquals(0, map.size());
+    }
+
+    @DisplayName("Reads keep an expire-after-access entry alive")
+    @Test
+    void test_expireAfterAccess() {
+        ExpiringMap<Integer, String> map = new ExpiringMap<>(ExpiringMap.NO_EXPIRATION, 10, TimeUnit.SECONDS, clock);
+        map.put(1, "One");
+        map.put(2, "Two");
+        for (int i = 0; i < 5; i++) {
+            clock.advance(6, TimeUnit.SECONDS);
+            assertEquals("One", map.get(1));
+        }
+        assertFalse(map.containsKey(2));
+        clock.advance(11, TimeUnit.SECONDS);
+        assertFalse(map.containsKey(1));
+    }
+
+    @DisplayName("Write deadline limits access prolongation when both policies are set")
+    @Test
+    void test_bothPolicies() {
+        ExpiringMap<Integer, String> map = new ExpiringMap<>(20, 10, TimeUnit.SECONDS, clock);
+        map.put(1, "One");
+        clock.advance(8, TimeUnit.SECONDS);
+        map.get(1);
+        clock.advance(8, TimeUnit.SECONDS);
+        map.get(1);
+        clock.advance(8, TimeUnit.SECONDS);
+        assertNull(map.get(1));
+    }
+
+    @DisplayName("Per-entry time to live overrides the map policy")
+    @Test
+    void test_perEntryTimeToLive() {
+        ExpiringMap<Integer, String> map = new ExpiringMap<>(1, ExpiringMap.NO_EXPIRATION, TimeUnit.HOURS, clock);
+        map.put(1, "One", 5, TimeUnit.MINUTES);
+        map.put(2, "Two");
+        clock.advance(5, TimeUnit.MINUTES);
+        assertNull(map.get(1));
+        assertEquals("Two", map.get(2));
+    }
+
+    @DisplayName("Timer wheel expires entries spread over days without touching them")
+    @Test
+    void test_cleanUpExpiresAllDueEntries() {
+        ExpiringMap<Integer, Integer> map = new ExpiringMap<>(ExpiringMap.NO_EXPIRATION, ExpiringMap.NO_EXPIRATION,
+                TimeUnit.SECONDS, clock);
+        for (int i = 1; i <= 1000; i++) {
+            map.put(i, i, i * 397L, TimeUnit.SECONDS);
+        }
+        for (int step = 1; step <= 400; step++) {
+            clock.advance(1000, TimeUnit.SECONDS);
+            map.cleanUp();
+            int expectedAlive = Math.max(0, 1000 - (int) (step * 1000L / 397));
+            // the wheel may keep an entry until the end of its bucket, which is at most a few seconds late
+            assertTrue(map.size() <= expectedAlive + 3, "step " + step + " size " + map.size());
+            assertTrue(map.size() >= expectedAlive);
+        }
+        assertEquals(0, map.size());
+    }
+
+    @DisplayName("Iterator skips entries that already expired")
+    @Test
+    void test_iteratorSkipsExpired() {
+        ExpiringMap<Integer, String> map = new ExpiringMap<>(10, ExpiringMap.NO_EXPIRATION, TimeUnit.SECONDS, clock);
+        map.put(1, "One");
+        clock.advance(5, TimeUnit.SECONDS);
+        map.put(2, "Two");
+        clock.advance(5, TimeUnit.SECONDS);
+        Iterator<Map.Entity<Integer, String>> iterator = map.iterator();
+        assertEquals(2, iterator.next().getKey());
+        assertFalse(iterator.hasNext());
+    }
+
+    private static class FakeClock implements ExpiringMap.Clock {
+        private long nanos = 1_000;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        void advance(long duration, TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.CachedHashKey;
+import ua.yelisieiev.implementations.HashingStrategies;
+import ua.yelisieiev.implementations.MyMap;
+import ua.yelisieiev.interfaces.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingStrategiesTest {
+    @DisplayName("Byte array keys are looked up by content")
+    @Test
+    void test_arrays_byteArrayKeys() {
+        Map<byte[], String> map = new MyMap<>(HashingStrategies.arrays());
+        map.put(new byte[]{1, 2, 3}, "A");
+        assertEquals("A", map.get(new byte[]{1, 2, 3}));
+        assertNull(map.get(new byte[]{1, 2}));
+        assertEquals("A", map.remove(new byte[]{1, 2, 3}));
+        assertEquals(0, map.size());
+    }
+
+    @DisplayName("Nested object arrays are compared deeply")
+    @Test
+    void test_arrays_nestedArrayKeys() {
+        Map<Object[], String> map = new MyMap<>(HashingStrategies.arrays());
+        map.put(new Object[]{"a", new int[]{1}}, "A");
+        assertTrue(map.containsKey(new Object[]{"a", new int[]{1}}));
+        assertFalse(map.containsKey(new Object[]{"a", new long[]{1}}));
+    }
+
+    @DisplayName("Identity strategy tells equal but distinct keys apart")
+    @Test
+    void test_identity() {
+        Map<String, Integer> map = new MyMap<>(HashingStrategies.identity());
+        String key = new String("key");
+        map.put(key, 1);
+        map.put(new String("key"), 2);
+        assertEquals(2, map.size());
+        assertEquals(1, map.get(key));
+    }
+
+    @DisplayName("Case-insensitive strategy maps differently cased strings to one entity")
+    @Test
+    void test_caseInsensitive() {
+        Map<String, Integer> map = new MyMap<>(HashingStrategies.caseInsensitive());
+        map.put("Content-Type", 1);
+        assertEquals(1, map.put("CONTENT-TYPE", 2));
+        assertEquals(2, map.get("content-type"));
+        assertEquals(1, map.size());
+    }
+
+    @DisplayName("Case-insensitive keys with colliding hashes still work once their bucket is a tree")
+    @Test
+    void test_caseInsensitive_treeBucket() {
+        Map<String, Integer> map = new MyMap<>(64, HashingStrategies.caseInsensitive());
+        // "Ak" and "c-" have the same case-insensitive hash, so all combinations collide
+        String[] parts = {"Ak", "c-"};
+        for (int i = 0; i < 32; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int bit = 0; bit < 5; bit++) {
+                key.append(parts[(i >> bit) & 1]);
+            }
+            map.put(key.toString(), i);
+        }
+        assertEquals(32, map.size());
+        assertEquals(0, map.get("aKakAKakak"));
+        assertEquals(31, map.get("C-c-C-c-c-"));
+    }
+
+    @DisplayName("Cached hash wrappers with a custom strategy are equal by that strategy")
+    @Test
+    void test_cachedHash() {
+        Map<CachedHashKey<String>, Integer> map = new MyMap<>(HashingStrategies.cachedHash());
+        map.put(new CachedHashKey<>("Key", HashingStrategies.caseInsensitive()), 1);
+        assertEquals(1, map.get(new CachedHashKey<>("KEY", HashingStrategies.caseInsensitive())));
+        assertNull(map.get(new CachedHashKey<>("KEY")));
+    }
+
+    @DisplayName("Null keys are rejected with a strategy too")
+    @Test
+    void test_nullKey_NPE() {
+        Map<String, Integer> map = new MyMap<>(HashingStrategies.identity());
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+    }
+}
@@ -0,0 +1,100 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.IntArrayList;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+    private final IntArrayList testList = new IntArrayList(2);
+
+    @DisplayName("Added values are read back at their indexes")
+    @Test
+    void test_addAndGet() {
+        for (int i = 0; i < 100; i++) {
+            testList.add(i);
+        }
+        testList.add(-1, 0);
+        testList.add(-2, 50);
+        assertEquals(102, testList.size());
+        assertEquals(-1, testList.get(0));
+        assertEquals(-2, testList.get(50));
+        assertEquals(99, testList.get(101));
+    }
+
+    @DisplayName("Remove and set return the old value")
+    @Test
+    void test_removeAndSet() {
+        testList.addAll(new int[]{10, 20, 30});
+        assertEquals(20, testList.remove(1));
+        assertEquals(30, testList.set(31, 1));
+        assertArrayEquals(new int[]{10, 31}, testList.toArray());
+    }
+
+    @DisplayName("Bulk add grows the list in one step")
+    @Test
+    void test_addAll() {
+        testList.add(1);
+        testList.addAll(new int[]{2, 3, 4, 5, 6, 7, 8});
+        testList.addAll(new int[0]);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, testList.toArray());
+    }
+
+    @DisplayName("Index of the first and the last occurrence")
+    @Test
+    void test_indexOf() {
+        testList.addAll(new int[]{0, 5, 0, 5});
+        assertEquals(1, testList.indexOf(5));
+        assertEquals(3, testList.lastIndexOf(5));
+        assertEquals(-1, testList.indexOf(7));
+        assertTrue(testList.contains(0));
+        assertFalse(testList.contains(7));
+    }
+
+    @DisplayName("Sort puts the values in ascending order")
+    @Test
+    void test_sort() {
+        testList.addAll(new int[]{5, -3, 9, 0, 2});
+        testList.sort();
+        assertEquals("[-3, 0, 2, 5, 9]", testList.toString());
+    }
+
+    @DisplayName("Primitive iterator and forEach go through the values in order")
+    @Test
+    void test_iteration() {
+        testList.addAll(new int[]{1, 2, 3, 4});
+        int[] sum = new int[1];
+        testList.forEach(value -> sum[0] += value);
+        assertEquals(10, sum[0]);
+
+        PrimitiveIterator.OfInt iterator = testList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.nextInt() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertArrayEquals(new int[]{1, 3}, testList.toArray());
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @DisplayName("Out of range indexes are rejected")
+    @Test
+    void test_indexOutOfBounds() {
+        testList.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> testList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> testList.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> testList.add(1, 2));
+    }
+
+    @DisplayName("Clear empties the list")
+    @Test
+    void test_clear() {
+        testList.addAll(new int[]{1, 2, 3});
+        testList.clear();
+        assertTrue(testList.isEmpty());
+        assertEquals("[]", testList.toString());
+    }
+}
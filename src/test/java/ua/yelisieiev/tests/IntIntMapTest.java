@@ -0,0 +1,124 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.IntIntMap;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntMapTest {
+    private final IntIntMap testMap = new IntIntMap(4, 0.5);
+
+    @BeforeEach
+    void fillMap() {
+        testMap.put(1, 10);
+        testMap.put(0, 100);
+        testMap.put(-1, -10);
+    }
+
+    @DisplayName("Zero and minus one are regular keys")
+    @Test
+    void test_zeroAndMinusOneKeys() {
+        assertEquals(100, testMap.get(0));
+        assertEquals(-10, testMap.get(-1));
+        assertEquals(3, testMap.size());
+    }
+
+    @DisplayName("Put an existing key returns the old value")
+    @Test
+    void test_putExistingKey_returnsOldValue() {
+        assertEquals(10, testMap.put(1, 11));
+        assertEquals(11, testMap.get(1));
+    }
+
+    @DisplayName("Get a missing key returns the given default")
+    @Test
+    void test_getOrDefault_missingKey() {
+        assertEquals(42, testMap.getOrDefault(5, 42));
+        assertFalse(testMap.containsKey(5));
+    }
+
+    @DisplayName("addTo creates missing counters and increments existing ones")
+    @Test
+    void test_addTo() {
+        assertEquals(0, testMap.addTo(7, 3));
+        assertEquals(3, testMap.addTo(7, 2));
+        assertEquals(5, testMap.get(7));
+        assertEquals(100, testMap.addTo(0, 1));
+        assertEquals(101, testMap.get(0));
+    }
+
+    @DisplayName("Remove the zero key - size decreased, key not found")
+    @Test
+    void test_removeZeroKey() {
+        assertEquals(100, testMap.remove(0));
+        assertFalse(testMap.containsKey(0));
+        assertEquals(2, testMap.size());
+    }
+
+    @DisplayName("Many puts and removes keep all remaining keys accessible")
+    @Test
+    void test_growAndRemove() {
+        for (int i = -500; i < 500; i++) {
+            testMap.put(i, i * 2);
+        }
+        for (int i = -500; i < 500; i += 3) {
+            testMap.remove(i);
+        }
+        for (int i = -500; i < 500; i++) {
+            boolean removed = (i + 500) % 3 == 0;
+            assertEquals(!removed, testMap.containsKey(i));
+            if (!removed) {
+                assertEquals(i * 2, testMap.get(i));
+            }
+        }
+    }
+
+    @DisplayName("Cursor visits every entry once, including the zero key")
+    @Test
+    void test_cursor() {
+        IntIntMap.Cursor cursor = testMap.cursor();
+        int keySum = 0;
+        int valueSum = 0;
+        int count = 0;
+        while (cursor.advance()) {
+            keySum += cursor.key();
+            valueSum += cursor.value();
+            count++;
+        }
+        assertEquals(3, count);
+        assertEquals(0, keySum);
+        assertEquals(100, valueSum);
+        assertThrows(IllegalStateException.class, cursor::key);
+    }
+
+    @DisplayName("Random puts and removes across many growths agree with a HashMap")
+    @Test
+    void test_randomOperations_matchHashMap() {
+        IntIntMap map = new IntIntMap(2, 0.75);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(4000) - 2000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, 0), map.remove(key));
+                expected.remove(key);
+            } else {
+                assertEquals(expected.getOrDefault(key, 0), map.put(key, i));
+                expected.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        IntIntMap.Cursor cursor = map.cursor();
+        int count = 0;
+        while (cursor.advance()) {
+            assertEquals(expected.get(cursor.key()), cursor.value());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+}
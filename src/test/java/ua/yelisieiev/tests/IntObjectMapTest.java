@@ -0,0 +1,53 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.IntObjectMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntObjectMapTest {
+    private final IntObjectMap<String> testMap = new IntObjectMap<>(4, 0.5);
+
+    @BeforeEach
+    void fillMap() {
+        testMap.put(1, "One");
+        testMap.put(0, "Zero");
+        testMap.put(-1, "MinusOne");
+    }
+
+    @DisplayName("Zero and minus one are regular keys")
+    @Test
+    void test_zeroAndMinusOneKeys() {
+        assertEquals("Zero", testMap.get(0));
+        assertEquals("MinusOne", testMap.get(-1));
+        assertEquals(3, testMap.size());
+    }
+
+    @DisplayName("Get a missing key returns null")
+    @Test
+    void test_getMissingKey_null() {
+        assertNull(testMap.get(5));
+        assertEquals("Five", testMap.getOrDefault(5, "Five"));
+    }
+
+    @DisplayName("Remove an existing key returns the removed value")
+    @Test
+    void test_removeExistingKey() {
+        assertEquals("One", testMap.remove(1));
+        assertNull(testMap.get(1));
+        assertEquals(2, testMap.size());
+    }
+
+    @DisplayName("Cursor can update values in place")
+    @Test
+    void test_cursorSetValue() {
+        IntObjectMap<String>.Cursor cursor = testMap.cursor();
+        while (cursor.advance()) {
+            cursor.setValue("V" + cursor.key());
+        }
+        assertEquals("V0", testMap.get(0));
+        assertEquals("V-1", testMap.get(-1));
+    }
+}
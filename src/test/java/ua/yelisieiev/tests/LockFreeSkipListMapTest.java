@@ -0,0 +1,96 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.LockFreeSkipListMap;
+import ua.yelisieiev.interfaces.Map;
+import ua.yelisieiev.interfaces.SortedMap;
+
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LockFreeSkipListMapTest extends AbstractSortedMapTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected SortedMap<Integer, String> createMap() {
+        return new LockFreeSkipListMap<>();
+    }
+
+    @DisplayName("Concurrent puts of distinct keys are all visible in order")
+    @Test
+    void test_concurrentPuts() throws InterruptedException {
+        LockFreeSkipListMap<Integer, Integer> map = new LockFreeSkipListMap<>();
+        int perThread = 10_000;
+        runInThreads(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                int key = i * THREADS + thread;
+                map.put(key, key);
+            }
+        });
+        assertEquals(THREADS * perThread, map.size());
+        int expectedKey = 0;
+        for (Map.Entity<Integer, Integer> entity : map) {
+            assertEquals(expectedKey, entity.getKey());
+            assertEquals(expectedKey++, entity.getValue());
+        }
+        assertEquals(THREADS * perThread, expectedKey);
+    }
+
+    @DisplayName("Concurrent inserts and removes of the same keys leave a consistent map")
+    @Test
+    void test_concurrentPutsAndRemoves() throws InterruptedException {
+        LockFreeSkipListMap<Integer, Integer> map = new LockFreeSkipListMap<>();
+        runInThreads(thread -> {
+            for (int i = 0; i < 20_000; i++) {
+                int key = (i * 31 + thread) % 1_000;
+                if (thread % 2 == 0) {
+                    map.put(key, key);
+                } else {
+                    map.remove(key);
+                }
+            }
+        });
+        int iterated = 0;
+        Integer previousKey = null;
+        for (Map.Entity<Integer, Integer> entity : map) {
+            if (previousKey != null) {
+                assertTrue(previousKey < entity.getKey());
+            }
+            previousKey = entity.getKey();
+            assertEquals(entity.getKey(), map.get(entity.getKey()));
+            iterated++;
+        }
+        assertEquals(map.size(), iterated);
+    }
+
+    @DisplayName("Concurrent merges count every update exactly once")
+    @Test
+    void test_concurrentMerge() throws InterruptedException {
+        LockFreeSkipListMap<Integer, Integer> map = new LockFreeSkipListMap<>();
+        runInThreads(thread -> {
+            for (int i = 0; i < 10_000; i++) {
+                map.merge(i % 100, 1, Integer::sum);
+            }
+        });
+        for (int key = 0; key < 100; key++) {
+            assertEquals(THREADS * 100, map.get(key));
+        }
+    }
+
+    private void runInThreads(IntConsumer task) throws InterruptedException {
+        Thread[] threads = new Thread[THREADS];
+        Throwable[] failure = new Throwable[1];
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            threads[i] = new Thread(() -> task.accept(thread));
+            threads[i].setUncaughtExceptionHandler((t, e) -> failure[0] = e);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure[0]);
+    }
+}
@@ -0,0 +1,45 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.LongArrayList;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongArrayListTest {
+    private final LongArrayList testList = new LongArrayList(2);
+
+    @DisplayName("Values beyond the int range are kept as they are")
+    @Test
+    void test_bigValues() {
+        testList.add(Long.MAX_VALUE);
+        testList.add(Long.MIN_VALUE, 0);
+        testList.addAll(new long[]{1L << 40, -(1L << 40)});
+        assertEquals(Long.MIN_VALUE, testList.get(0));
+        assertEquals(Long.MAX_VALUE, testList.get(1));
+        assertEquals(2, testList.indexOf(1L << 40));
+        testList.sort();
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -(1L << 40), 1L << 40, Long.MAX_VALUE}, testList.toArray());
+    }
+
+    @DisplayName("Primitive iterator and forEach go through the values in order")
+    @Test
+    void test_iteration() {
+        for (long i = 0; i < 100; i++) {
+            testList.add(i);
+        }
+        long[] sum = new long[1];
+        testList.forEach(value -> sum[0] += value);
+        assertEquals(4950, sum[0]);
+
+        PrimitiveIterator.OfLong iterator = testList.iterator();
+        long expected = 0;
+        while (iterator.hasNext()) {
+            assertEquals(expected++, iterator.nextLong());
+            iterator.remove();
+        }
+        assertTrue(testList.isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.LongObjectMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectMapTest {
+    private final LongObjectMap<String> testMap = new LongObjectMap<>(4, 0.5);
+
+    @BeforeEach
+    void fillMap() {
+        testMap.put(Long.MAX_VALUE, "Max");
+        testMap.put(0L, "Zero");
+        testMap.put(-1L, "MinusOne");
+    }
+
+    @DisplayName("Zero, minus one and extreme values are regular keys")
+    @Test
+    void test_specialKeys() {
+        assertEquals("Zero", testMap.get(0L));
+        assertEquals("MinusOne", testMap.get(-1L));
+        assertEquals("Max", testMap.get(Long.MAX_VALUE));
+        assertNull(testMap.get(Long.MIN_VALUE));
+    }
+
+    @DisplayName("Keys differing only in the high bits don't clash")
+    @Test
+    void test_highBitKeys() {
+        for (long i = 1; i <= 1000; i++) {
+            testMap.put(i << 32, "H" + i);
+        }
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals("H" + i, testMap.get(i << 32));
+        }
+        assertEquals(1003, testMap.size());
+    }
+
+    @DisplayName("Clear removes all the keys including zero")
+    @Test
+    void test_clear() {
+        testMap.clear();
+        assertEquals(0, testMap.size());
+        assertFalse(testMap.containsKey(0L));
+        assertFalse(testMap.cursor().advance());
+    }
+}
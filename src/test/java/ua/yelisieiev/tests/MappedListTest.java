@@ -0,0 +1,135 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.yelisieiev.implementations.Codecs;
+import ua.yelisieiev.implementations.MappedList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedListTest {
+    // small segments make the tests spread elements over several files
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("Appended elements are read back, including nulls")
+    @Test
+    void test_appendAndGet() throws IOException {
+        try (MappedList<String> list = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(i % 10 == 0 ? null : "element " + i);
+            }
+            assertEquals(100, list.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i % 10 == 0 ? null : "element " + i, list.get(i));
+            }
+            assertEquals(11, list.indexOf("element 11"));
+        }
+    }
+
+    @DisplayName("A closed list is there after reopening")
+    @Test
+    void test_reopen() throws IOException {
+        try (MappedList<String> list = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE)) {
+            for (int i = 0; i < 100; i++) {
+                list.add("element " + i);
+            }
+        }
+        try (MappedList<String> list = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE)) {
+            assertEquals(100, list.size());
+            assertEquals("element 99", list.get(99));
+            list.add("element 100");
+            assertEquals("element 100", list.get(100));
+        }
+    }
+
+    @DisplayName("Elements written after the last force are recovered if they are intact")
+    @Test
+    void test_recoverUnforcedTail() throws IOException {
+        MappedList<String> crashed = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE);
+        for (int i = 0; i < 10; i++) {
+            crashed.add("element " + i);
+        }
+        crashed.force();
+        for (int i = 10; i < 30; i++) {
+            crashed.add("element " + i);
+        }
+        // no close, as if the process died
+        try (MappedList<String> list = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE)) {
+            assertEquals(30, list.size());
+            assertEquals("element 29", list.get(29));
+        }
+    }
+
+    @DisplayName("Recovery stops at the first damaged element after the committed ones")
+    @Test
+    void test_recoveryStopsAtDamagedTail() throws IOException {
+        MappedList<Long> crashed = MappedList.open(directory, Codecs.longs(), SEGMENT_SIZE);
+        for (long i = 0; i < 10; i++) {
+            crashed.add(i);
+        }
+        crashed.force();
+        for (long i = 10; i < 20; i++) {
+            crashed.add(i);
+        }
+        // 13 bytes per slot, 4 slots per segment: element 14 is the third slot of the fourth segment
+        try (FileChannel channel = FileChannel.open(directory.resolve("data-00003"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), 2 * 13 + 6);
+        }
+        try (MappedList<Long> list = MappedList.open(directory, Codecs.longs(), SEGMENT_SIZE)) {
+            assertEquals(14, list.size());
+            assertEquals(13, list.get(13));
+            list.add(100L);
+            assertEquals(100, list.get(14));
+        }
+    }
+
+    @DisplayName("Elements of a cleared list don't come back after a crash")
+    @Test
+    void test_clearedElementsAreNotRecovered() throws IOException {
+        MappedList<String> crashed = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE);
+        for (int i = 0; i < 10; i++) {
+            crashed.add("element " + i);
+        }
+        crashed.force();
+        crashed.clear();
+        try (MappedList<String> list = MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE)) {
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @DisplayName("Fixed-size elements can be replaced, nothing can be inserted or removed")
+    @Test
+    void test_unsupportedChanges() throws IOException {
+        try (MappedList<Long> list = MappedList.open(directory, Codecs.longs(), SEGMENT_SIZE)) {
+            list.add(1L);
+            list.add(2L);
+            assertEquals(2, list.set(null, 1));
+            assertNull(list.get(1));
+            assertThrows(UnsupportedOperationException.class, () -> list.add(0L, 0));
+            assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+            assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+        }
+        try (MappedList<String> list = MappedList.open(directory.resolve("strings"), Codecs.strings(), SEGMENT_SIZE)) {
+            list.add("a");
+            assertThrows(UnsupportedOperationException.class, () -> list.set("b", 0));
+        }
+    }
+
+    @DisplayName("Reopening with a different layout is rejected")
+    @Test
+    void test_reopenWithOtherCodec() throws IOException {
+        MappedList.open(directory, Codecs.longs(), SEGMENT_SIZE).close();
+        assertThrows(IllegalArgumentException.class, () -> MappedList.open(directory, Codecs.strings(), SEGMENT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> MappedList.open(directory, Codecs.longs(), SEGMENT_SIZE * 2));
+    }
+}
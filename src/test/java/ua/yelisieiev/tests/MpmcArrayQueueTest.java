@@ -0,0 +1,21 @@
+package ua.yelisieiev.tests;
+
+import ua.yelisieiev.implementations.MpmcArrayQueue;
+import ua.yelisieiev.interfaces.Queue;
+
+public class MpmcArrayQueueTest extends AbstractQueueTest {
+    @Override
+    protected Queue<Integer> createQueue(int capacity) {
+        return new MpmcArrayQueue<>(capacity);
+    }
+
+    @Override
+    protected int producers() {
+        return 4;
+    }
+
+    @Override
+    protected int consumers() {
+        return 4;
+    }
+}
@@ -0,0 +1,9 @@
+package ua.yelisieiev.tests;
+
+// the same tests with the node reuse turned off, every offer allocates a node
+public class MpscLinkedQueueNoPoolTest extends MpscLinkedQueueTest {
+    @Override
+    protected int poolSize() {
+        return 0;
+    }
+}
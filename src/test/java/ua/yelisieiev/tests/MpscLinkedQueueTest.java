@@ -0,0 +1,69 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.MpscLinkedQueue;
+import ua.yelisieiev.interfaces.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MpscLinkedQueueTest extends AbstractQueueTest {
+    @Override
+    protected Queue<Integer> createQueue(int capacity) {
+        return new MpscLinkedQueue<>(poolSize());
+    }
+
+    // a single pooled node runs out all the time, so the concurrent producers mostly allocate new nodes
+    // while racing for the recycled one
+    protected int poolSize() {
+        return 1;
+    }
+
+    @Override
+    protected int producers() {
+        return 4;
+    }
+
+    @Override
+    protected int consumers() {
+        return 1;
+    }
+
+    @Override
+    protected boolean bounded() {
+        return false;
+    }
+
+    @DisplayName("Offer never fails, the queue is unbounded")
+    @Test
+    void test_offer_unbounded() {
+        Queue<Integer> queue = createQueue(1);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(10_000, queue.size());
+    }
+
+    @DisplayName("Values stay in order while the pool fills up, overflows and runs dry")
+    @Test
+    void test_offerPoll_throughPool() {
+        Queue<Integer> queue = createQueue(1);
+        int next = 0;
+        for (int round = 0; round < 5; round++) {
+            int first = next;
+            for (int i = 0; i < 10; i++) {
+                assertTrue(queue.offer(next++));
+            }
+            for (int i = first; i < next; i++) {
+                assertEquals(i, queue.poll());
+            }
+            assertNull(queue.poll());
+        }
+    }
+
+    @DisplayName("Negative pool size - throws IllegalArgumentException")
+    @Test
+    void test_constructor_negativePoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MpscLinkedQueue<Integer>(-1));
+    }
+}
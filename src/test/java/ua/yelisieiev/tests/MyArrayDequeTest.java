@@ -0,0 +1,75 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.MyArrayDeque;
+import ua.yelisieiev.interfaces.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyArrayDequeTest extends AbstractListTest {
+    @Override
+    protected List<String> createList() {
+        return new MyArrayDeque<>(2);
+    }
+
+    @DisplayName("Elements added at both ends come out in the right order")
+    @Test
+    public void testAddFirstAddLast() {
+        MyArrayDeque<Integer> deque = new MyArrayDeque<>(2);
+        for (int i = 0; i < 10; i++) {
+            deque.addFirst(-i);
+            deque.addLast(i + 1);
+        }
+        assertEquals(20, deque.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i - 9, deque.get(i));
+        }
+        assertEquals(-9, deque.peek());
+        assertEquals(-9, deque.pollFirst());
+        assertEquals(10, deque.pollLast());
+        assertEquals(18, deque.size());
+    }
+
+    @DisplayName("FIFO use keeps wrapping around without growing")
+    @Test
+    public void testQueueWrapsAround() {
+        MyArrayDeque<Integer> deque = new MyArrayDeque<>(4);
+        for (int i = 0; i < 3; i++) {
+            deque.addLast(i);
+        }
+        for (int i = 3; i < 100; i++) {
+            assertEquals(i - 3, deque.pollFirst());
+            deque.addLast(i);
+            assertEquals(i - 2, deque.peek());
+        }
+        assertEquals("[97, 98, 99]", deque.toString());
+    }
+
+    @DisplayName("Poll and peek on an empty deque return null")
+    @Test
+    public void testPollEmpty() {
+        MyArrayDeque<String> deque = new MyArrayDeque<>();
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertNull(deque.peek());
+    }
+
+    @DisplayName("Middle inserts and removes on a wrapped ring")
+    @Test
+    public void testMiddleOperationsWrapped() {
+        MyArrayDeque<Integer> deque = new MyArrayDeque<>(8);
+        for (int i = 4; i < 8; i++) {
+            deque.addLast(i);
+        }
+        for (int i = 3; i >= 0; i--) {
+            deque.addFirst(i);
+        }
+        deque.add(100, 2);
+        deque.add(200, 7);
+        assertEquals("[0, 1, 100, 2, 3, 4, 5, 200, 6, 7]", deque.toString());
+        assertEquals(100, deque.remove(2));
+        assertEquals(200, deque.remove(6));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7]", deque.toString());
+    }
+}
@@ -5,6 +5,10 @@ import org.junit.jupiter.api.Test;
 import ua.yelisieiev.implementations.MyArrayList;
 import ua.yelisieiev.interfaces.List;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MyArrayListTest extends AbstractListTest {
@@ -26,4 +30,66 @@ public class MyArrayListTest extends AbstractListTest {
         growingList.add("G");
         assertEquals("G", growingList.get(growingList.size() - 1));
     }
+
+    @DisplayName("parallelSort is stable whatever the threshold, so the merges at the split points keep equal elements in order")
+    @Test
+    public void testParallelSortThresholds() {
+        Random random = new Random(23);
+        for (int size : new int[]{2, 3, 31, 1000, 4099}) {
+            java.util.List<int[]> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                // few distinct keys, the second number is the original position
+                values.add(new int[]{random.nextInt(10), i});
+            }
+            Comparator<int[]> byKey = Comparator.comparingInt(value -> value[0]);
+            java.util.List<int[]> expected = new ArrayList<>(values);
+            expected.sort(byKey);
+            for (int threshold : new int[]{1, 2, 7, size - 1, size}) {
+                MyArrayList<int[]> list = new MyArrayList<>(1);
+                for (int[] value : values) {
+                    list.add(value);
+                }
+                list.parallelSort(byKey, Math.max(1, threshold));
+                for (int i = 0; i < size; i++) {
+                    assertSame(expected.get(i), list.get(i), "size " + size + ", threshold " + threshold);
+                }
+            }
+        }
+    }
+
+    @DisplayName("Sorting a list with spare capacity leaves it usable, a null comparator means the natural order")
+    @Test
+    public void testSortNaturalOrder() {
+        MyArrayList<String> list = new MyArrayList<>(16);
+        for (String value : new String[]{"D", "B", "E", "A", "C"}) {
+            list.add(value);
+        }
+        list.parallelSort(null, 1);
+        assertEquals("[A, B, C, D, E]", list.toString());
+        list.sort(Comparator.reverseOrder());
+        assertEquals("[E, D, C, B, A]", list.toString());
+        list.sort(null);
+        assertEquals("[A, B, C, D, E]", list.toString());
+        list.add("F");
+        assertEquals(6, list.size());
+        assertThrows(IllegalArgumentException.class, () -> list.parallelSort(null, 0));
+    }
+
+    @DisplayName("binarySearch finds present values and the insertion point of absent ones")
+    @Test
+    public void testBinarySearch() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 100; i += 2) {
+            list.add(i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i / 2, list.binarySearch(i));
+        }
+        assertEquals(-1, list.binarySearch(-1));
+        assertEquals(-(3 + 1), list.binarySearch(5));
+        assertEquals(-(50 + 1), list.binarySearch(1000));
+        list.sort(Comparator.reverseOrder());
+        assertEquals(49, list.binarySearch(0, Comparator.reverseOrder()));
+        assertEquals(-1, new MyArrayList<Integer>().binarySearch(1));
+    }
 }
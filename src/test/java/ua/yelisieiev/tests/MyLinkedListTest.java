@@ -1,13 +1,64 @@
 package ua.yelisieiev.tests;
 
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import ua.yelisieiev.implementations.MyLinkedList;
 import ua.yelisieiev.interfaces.List;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class MyLinkedListTest extends AbstractListTest {
     @Override
     protected List<String> createList() {
         return new MyLinkedList<>();
     }
 
+    @DisplayName("sort relinks the nodes in both directions, also for sizes that leave an odd run at the end")
+    @Test
+    public void testSortRelinksNodes() {
+        Random random = new Random(23);
+        for (int size : new int[]{0, 1, 2, 3, 17, 1000}) {
+            MyLinkedList<Integer> list = new MyLinkedList<>();
+            java.util.List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int value = random.nextInt(100);
+                list.add(value);
+                expected.add(value);
+            }
+            expected.sort(null);
+            list.sort(Comparator.naturalOrder());
+            // forwards over the next links, backwards from the last node over the prev links
+            assertEquals(expected.toString(), list.toString());
+            for (int i = size - 1; i >= 0; i--) {
+                assertEquals(expected.get(i), list.get(i));
+            }
+            list.add(-1);
+            list.add(-2, 0);
+            assertEquals(size + 2, list.size());
+            assertEquals(-1, list.get(size + 1));
+            assertEquals(-2, list.remove(0));
+        }
+    }
 
+    @DisplayName("sort doesn't reorder equal elements, whether the nodes come sorted, reversed or with a null comparator")
+    @Test
+    public void testSortStableAndNaturalOrder() {
+        MyLinkedList<String> list = new MyLinkedList<>();
+        for (String value : new String[]{"b1", "a1", "b2", "a2", "b3"}) {
+            list.add(value);
+        }
+        list.sort(Comparator.comparing(value -> value.charAt(0)));
+        assertEquals("[a1, a2, b1, b2, b3]", list.toString());
+        list.sort(Comparator.comparing(value -> value.charAt(0)));
+        assertEquals("[a1, a2, b1, b2, b3]", list.toString());
+        list.sort(Comparator.reverseOrder());
+        assertEquals("[b3, b2, b1, a2, a1]", list.toString());
+        list.sort(null);
+        assertEquals("[a1, a2, b1, b2, b3]", list.toString());
+        assertEquals(4, list.lastIndexOf("b3"));
+    }
 }
@@ -0,0 +1,71 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.MyMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MyMapIncrementalResizeTest extends AbstractMapTest {
+    @Override
+    protected Map<Integer, String> createMap() {
+        return new MyMap<>(6, 0.5, 2, MyMap.ResizeMode.INCREMENTAL);
+    }
+
+    @DisplayName("Keys stay accessible while buckets are being moved between the arrays")
+    @Test
+    void test_getAndRemoveDuringMigration() {
+        Map<Integer, Integer> map = new MyMap<>(4, 0.75, 2, MyMap.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+            assertEquals(i, map.get(i));
+            assertEquals(i / 2, map.get(i / 2));
+            if (i % 3 == 0) {
+                assertEquals(i / 3, map.remove(i / 3));
+                map.put(i / 3, i / 3);
+            }
+        }
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i));
+        }
+    }
+
+    @DisplayName("Iterator sees every entity once while a migration is in progress")
+    @Test
+    void test_iteratorDuringMigration() {
+        Map<Integer, Integer> map = new MyMap<>(4, 0.75, 2, MyMap.ResizeMode.INCREMENTAL);
+        for (int count = 1; count <= 300; count++) {
+            map.put(count, count);
+            boolean[] visited = new boolean[count + 1];
+            for (Map.Entity<Integer, Integer> entity : map) {
+                assertFalse(visited[entity.getKey()]);
+                visited[entity.getKey()] = true;
+            }
+            for (int i = 1; i <= count; i++) {
+                assertTrue(visited[i]);
+            }
+        }
+    }
+
+    @DisplayName("Removing all entities through the iterator during a migration empties the map")
+    @Test
+    void test_iteratorRemoveDuringMigration() {
+        Map<Integer, Integer> map = new MyMap<>(4, 0.75, 2, MyMap.ResizeMode.INCREMENTAL);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        Iterator<Map.Entity<Integer, Integer>> iterator = map.iterator();
+        int removed = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            removed++;
+        }
+        assertEquals(100, removed);
+        assertEquals(0, map.size());
+    }
+}
@@ -0,0 +1,102 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.Codecs;
+import ua.yelisieiev.implementations.OffHeapList;
+import ua.yelisieiev.interfaces.List;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapListTest extends AbstractListTest {
+    // one to four bytes per character in UTF-8
+    private static final String MIXED_WIDTH_TEXT = "a\u0456\u20ac\uD83D\uDE00";
+
+    @Override
+    protected List<String> createList() {
+        // small chunks make even the short tests spread records over several of them
+        return new OffHeapList<>(Codecs.strings(), 16);
+    }
+
+    @DisplayName("Fixed-size values shifted across chunk boundaries keep the order")
+    @Test
+    public void testFixedLayoutMiddleInserts() {
+        // 3 slots of 9 bytes per chunk
+        OffHeapList<Long> list = new OffHeapList<>(Codecs.longs(), 27);
+        for (long i = 0; i < 100; i += 2) {
+            list.add(i);
+        }
+        for (int i = 1; i < 100; i += 2) {
+            list.add((long) i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i * 2L, list.remove(i));
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i * 2L + 1, list.get(i));
+        }
+    }
+
+    @DisplayName("Null elements are kept in the fixed layout")
+    @Test
+    public void testFixedLayoutNulls() {
+        OffHeapList<Integer> list = new OffHeapList<>(Codecs.integers(), 10);
+        list.add(1);
+        list.add(null);
+        list.add(3);
+        assertEquals("[1, null, 3]", list.toString());
+        assertNull(list.view(1));
+        assertEquals(Integer.BYTES, list.view(0).remaining());
+        assertNull(list.set(2, 1));
+        assertEquals(2, list.get(1));
+    }
+
+    @DisplayName("Replaced records are reclaimed and the values survive")
+    @Test
+    public void testCompaction() {
+        OffHeapList<String> list = new OffHeapList<>(Codecs.strings(), 64);
+        for (int i = 0; i < 10; i++) {
+            list.add("value " + i);
+        }
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 10; i++) {
+                list.set("value " + i + " round " + round, i);
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals("value " + i + " round 99", list.get(i));
+        }
+    }
+
+    @DisplayName("View gives the encoded bytes of an element without copying them")
+    @Test
+    public void testView() {
+        OffHeapList<String> list = new OffHeapList<>(Codecs.strings());
+        list.add("abc");
+        list.add(null);
+        list.add(MIXED_WIDTH_TEXT);
+        ByteBuffer view = list.view(2);
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        assertEquals(MIXED_WIDTH_TEXT, new String(bytes, StandardCharsets.UTF_8));
+        assertNull(list.view(1));
+        assertTrue(list.view(0).isReadOnly());
+        assertEquals(10, list.view(2).remaining());
+    }
+
+    @DisplayName("A closed list can't be read any more")
+    @Test
+    public void testClose() {
+        OffHeapList<String> list = new OffHeapList<>(Codecs.strings());
+        list.add("abc");
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.add("def"));
+    }
+}
@@ -0,0 +1,83 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.Codecs;
+import ua.yelisieiev.implementations.OffHeapMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapMapTest extends AbstractMapTest {
+    @Override
+    protected Map<Integer, String> createMap() {
+        return new OffHeapMap<>(Codecs.integers(), Codecs.strings(), 4, 64);
+    }
+
+    @DisplayName("Keys removed and added again many times don't fill the table with tombstones")
+    @Test
+    void test_removeAndAddAgain() {
+        OffHeapMap<String, Long> map = new OffHeapMap<>(Codecs.strings(), Codecs.longs(), 4, 128);
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 50; i++) {
+                map.put("key " + i, (long) round);
+            }
+            for (int i = 0; i < 50; i += 2) {
+                assertEquals(round, map.remove("key " + i));
+            }
+        }
+        assertEquals(25, map.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 == 0 ? null : 99L, map.get("key " + i));
+        }
+    }
+
+    @DisplayName("Removing through the iterator leaves the other entries")
+    @Test
+    void test_iteratorRemove() {
+        OffHeapMap<Integer, Integer> map = new OffHeapMap<>(Codecs.integers(), Codecs.integers(), 4, 64);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i * 10);
+        }
+        int seen = 0;
+        Iterator<Map.Entity<Integer, Integer>> iterator = map.iterator();
+        while (iterator.hasNext()) {
+            Map.Entity<Integer, Integer> entity = iterator.next();
+            assertEquals(entity.getKey() * 10, entity.getValue());
+            if (entity.getKey() % 3 != 0) {
+                iterator.remove();
+            }
+            seen++;
+        }
+        assertEquals(1000, seen);
+        assertEquals(334, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 3 == 0 ? i * 10 : null, map.get(i));
+        }
+    }
+
+    @DisplayName("View gives the encoded bytes of a value without copying them")
+    @Test
+    void test_view() {
+        OffHeapMap<String, Long> map = new OffHeapMap<>(Codecs.strings(), Codecs.longs());
+        map.put("answer", 42L);
+        map.put("nothing", null);
+        ByteBuffer view = map.view("answer");
+        assertEquals(Long.BYTES, view.remaining());
+        assertEquals(42L, view.getLong(0));
+        assertNull(map.view("nothing"));
+        assertNull(map.view("missing"));
+    }
+
+    @DisplayName("A closed map can't be read any more")
+    @Test
+    void test_close() {
+        OffHeapMap<String, Long> map = new OffHeapMap<>(Codecs.strings(), Codecs.longs());
+        map.put("answer", 42L);
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.get("answer"));
+    }
+}
@@ -0,0 +1,62 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.OpenAddressingMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpenAddressingMapTest extends AbstractMapTest {
+    @Override
+    protected Map<Integer, String> createMap() {
+        return new OpenAddressingMap<>(4, 0.5);
+    }
+
+    @DisplayName("Removed keys don't break probe chains of the keys that collided with them")
+    @Test
+    void test_removeKeepsProbeChains() {
+        Map<Integer, Integer> map = new OpenAddressingMap<>(4, 0.75);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, map.remove(i));
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(i));
+        }
+    }
+
+    @DisplayName("Removing every entity through the iterator visits and removes each of them once")
+    @Test
+    void test_iteratorRemoveAll() {
+        Map<Integer, Integer> map = new OpenAddressingMap<>(4, 0.75);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i * 31, i);
+        }
+        boolean[] visited = new boolean[1000];
+        Iterator<Map.Entity<Integer, Integer>> iterator = map.iterator();
+        while (iterator.hasNext()) {
+            Map.Entity<Integer, Integer> entity = iterator.next();
+            assertFalse(visited[entity.getValue()]);
+            visited[entity.getValue()] = true;
+            iterator.remove();
+        }
+        assertEquals(0, map.size());
+        for (boolean isVisited : visited) {
+            assertTrue(isVisited);
+        }
+    }
+
+    @DisplayName("Value set through an iterated entity is visible in the map")
+    @Test
+    void test_entitySetValue() {
+        Map.Entity<Integer, String> entity = testMap.iterator().next();
+        entity.setValue("New");
+        assertEquals("New", testMap.get(entity.getKey()));
+    }
+}
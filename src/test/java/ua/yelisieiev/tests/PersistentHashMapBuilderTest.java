@@ -0,0 +1,11 @@
+package ua.yelisieiev.tests;
+
+import ua.yelisieiev.implementations.PersistentHashMap;
+import ua.yelisieiev.interfaces.Map;
+
+public class PersistentHashMapBuilderTest extends AbstractMapTest {
+    @Override
+    protected Map<Integer, String> createMap() {
+        return PersistentHashMap.builder();
+    }
+}
@@ -0,0 +1,160 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.PersistentHashMap;
+import ua.yelisieiev.interfaces.Map;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentHashMapTest {
+    private final PersistentHashMap<Integer, String> map123 = PersistentHashMap.<Integer, String>empty()
+            .with(1, "One").with(2, "Two").with(3, "Three");
+
+    @DisplayName("with() returns a new map and leaves the old one unchanged")
+    @Test
+    void test_with_oldVersionUnchanged() {
+        PersistentHashMap<Integer, String> map = map123.with(9, "Nine").with(1, "Uno");
+        assertEquals(4, map.size());
+        assertEquals("Uno", map.get(1));
+        assertEquals("Nine", map.get(9));
+        assertEquals(3, map123.size());
+        assertEquals("One", map123.get(1));
+        assertFalse(map123.containsKey(9));
+    }
+
+    @DisplayName("without() returns a new map and leaves the old one unchanged")
+    @Test
+    void test_without_oldVersionUnchanged() {
+        PersistentHashMap<Integer, String> map = map123.without(2);
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey(2));
+        assertEquals("Two", map123.get(2));
+        assertSame(map, map.without(2));
+    }
+
+    @DisplayName("Putting the same value returns the same map")
+    @Test
+    void test_with_sameValue() {
+        String one = map123.get(1);
+        assertSame(map123, map123.with(1, one));
+    }
+
+    @DisplayName("Null values are kept and told apart from absent keys")
+    @Test
+    void test_nullValue() {
+        PersistentHashMap<Integer, String> map = map123.with(0, null);
+        assertTrue(map.containsKey(0));
+        assertNull(map.get(0));
+        assertNull(map.getOrDefault(0, "Default"));
+        assertEquals("Default", map.getOrDefault(9, "Default"));
+    }
+
+    @DisplayName("Null key - throws NPE")
+    @Test
+    void test_nullKey() {
+        assertThrows(NullPointerException.class, () -> map123.get(null));
+        assertThrows(NullPointerException.class, () -> map123.with(null, "Null"));
+    }
+
+    @DisplayName("Iterator of the immutable map doesn't support updates")
+    @Test
+    void test_iterator_immutable() {
+        Iterator<Map.Entity<Integer, String>> iterator = map123.iterator();
+        Map.Entity<Integer, String> entity = iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertThrows(UnsupportedOperationException.class, () -> entity.setValue("Changed"));
+    }
+
+    @DisplayName("Keys with equal hashes are all stored and removed")
+    @Test
+    void test_collidingKeys() {
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.with(new CollidingKey(i), i);
+        }
+        assertEquals(10, map.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, map.get(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 9; i++) {
+            map = map.without(new CollidingKey(i));
+        }
+        assertEquals(1, map.size());
+        assertEquals(9, map.get(new CollidingKey(9)));
+    }
+
+    @DisplayName("Built map doesn't see later changes of the builder")
+    @Test
+    void test_builder_buildIsSnapshot() {
+        PersistentHashMap.Builder<Integer, String> builder = map123.toBuilder();
+        builder.put(9, "Nine");
+        PersistentHashMap<Integer, String> built = builder.build();
+        builder.put(10, "Ten");
+        builder.remove(1);
+        assertEquals(4, built.size());
+        assertEquals("One", built.get(1));
+        assertFalse(built.containsKey(10));
+        assertEquals(3, map123.size());
+        assertEquals(4, builder.size());
+    }
+
+    @DisplayName("Random versions agree with java.util.HashMap copies")
+    @Test
+    void test_randomVersions() {
+        Random random = new Random(3);
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> snapshot = map;
+        HashMap<Integer, Integer> expectedSnapshot = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            // large keys spread over all the hash bits, small ones share the top levels
+            int key = random.nextBoolean() ? random.nextInt() : random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                map = map.without(key);
+                expected.remove(key);
+            } else {
+                map = map.with(key, i);
+                expected.put(key, i);
+            }
+            if (i % 10_000 == 0) {
+                snapshot = map;
+                expectedSnapshot = new HashMap<>(expected);
+            }
+        }
+        assertContains(expected, map);
+        assertContains(expectedSnapshot, snapshot);
+    }
+
+    private void assertContains(HashMap<Integer, Integer> expected, PersistentHashMap<Integer, Integer> map) {
+        assertEquals(expected.size(), map.size());
+        int iterated = 0;
+        for (Map.Entity<Integer, Integer> entity : map) {
+            assertEquals(expected.get(entity.getKey()), entity.getValue());
+            iterated++;
+        }
+        assertEquals(expected.size(), iterated);
+    }
+
+    private static class CollidingKey {
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.SegmentedList;
+import ua.yelisieiev.interfaces.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentedListTest extends AbstractListTest {
+    @Override
+    protected List<String> createList() {
+        // small chunks make even the short tests shift elements across chunk boundaries
+        return new SegmentedList<>(4);
+    }
+
+    @DisplayName("Elements are read back through int and long indexes across many chunks")
+    @Test
+    public void testLongIndexes() {
+        SegmentedList<Integer> list = new SegmentedList<>(8);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(1000L, list.longSize());
+        for (long i = 0; i < 1000; i++) {
+            assertEquals((int) i, list.get(i));
+            assertEquals((int) i, list.get((int) i));
+        }
+        assertEquals(500, list.set(-1, 500L));
+        assertEquals(500L, list.longIndexOf(-1));
+        assertEquals(0, list.remove(0L));
+        list.add(-2, 999L);
+        assertEquals(-2, list.get(999L));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000L));
+    }
+
+    @DisplayName("Shifts across chunk boundaries keep the order both ways")
+    @Test
+    public void testShiftsAcrossChunks() {
+        SegmentedList<Integer> list = new SegmentedList<>(4);
+        for (int i = 0; i < 100; i += 2) {
+            list.add(i);
+        }
+        for (int i = 1; i < 100; i += 2) {
+            list.add(i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+        list.removeRange(3L, 97L);
+        assertEquals("[0, 1, 2, 97, 98, 99]", list.toString());
+    }
+
+    @DisplayName("Removing everything and adding again reuses the list")
+    @Test
+    public void testShrinkAndGrow() {
+        SegmentedList<Integer> list = new SegmentedList<>(4);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50; i++) {
+                list.add(i);
+            }
+            while (!list.isEmpty()) {
+                list.remove(list.size() - 1);
+            }
+        }
+        list.add(7);
+        assertEquals("[7]", list.toString());
+    }
+
+    @DisplayName("Chunk size must be a power of two")
+    @Test
+    public void testChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<String>(6));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<String>(0));
+    }
+}
@@ -0,0 +1,21 @@
+package ua.yelisieiev.tests;
+
+import ua.yelisieiev.implementations.SpscArrayQueue;
+import ua.yelisieiev.interfaces.Queue;
+
+public class SpscArrayQueueTest extends AbstractQueueTest {
+    @Override
+    protected Queue<Integer> createQueue(int capacity) {
+        return new SpscArrayQueue<>(capacity);
+    }
+
+    @Override
+    protected int producers() {
+        return 1;
+    }
+
+    @Override
+    protected int consumers() {
+        return 1;
+    }
+}
@@ -0,0 +1,76 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.MyLinkedList;
+import ua.yelisieiev.implementations.TreeList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeListTest extends AbstractListTest {
+    @Override
+    protected List<String> createList() {
+        return new TreeList<>();
+    }
+
+    @DisplayName("Built from a list, the tree list has the same elements in the same order")
+    @Test
+    public void testFromList() {
+        List<Integer> source = new MyLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            source.add(i);
+        }
+        List<Integer> list = TreeList.fromList(source);
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.get(i));
+        }
+        list.add(-1, 0);
+        list.remove(500);
+        assertEquals(-1, list.get(0));
+        assertEquals(500, list.get(500));
+    }
+
+    @DisplayName("Built from an empty list, the tree list is empty")
+    @Test
+    public void testFromEmptyList() {
+        List<Integer> list = TreeList.fromList(new MyLinkedList<Integer>());
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @DisplayName("Inserts at the head keep the order")
+    @Test
+    public void testHeadInserts() {
+        List<Integer> list = new TreeList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i, 0);
+        }
+        int expected = 999;
+        for (Integer value : list) {
+            assertEquals(expected--, value);
+        }
+    }
+
+    @DisplayName("Removing every other element through the iterator")
+    @Test
+    public void testIteratorRemoveEveryOther() {
+        List<Integer> list = new TreeList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(500, list.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i * 2 + 1, list.get(i));
+        }
+    }
+}
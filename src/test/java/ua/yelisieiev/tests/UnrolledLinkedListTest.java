@@ -0,0 +1,57 @@
+package ua.yelisieiev.tests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.yelisieiev.implementations.UnrolledLinkedList;
+import ua.yelisieiev.interfaces.List;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledLinkedListTest extends AbstractListTest {
+    @Override
+    protected List<String> createList() {
+        // with 4 elements per node the inherited list tests already split and merge nodes
+        return new UnrolledLinkedList<>(4);
+    }
+
+    @DisplayName("Middle inserts into full nodes keep the order")
+    @Test
+    public void testMiddleInsertsSplitNodes() {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 100; i += 2) {
+            list.add(i);
+        }
+        for (int i = 1; i < 100; i += 2) {
+            list.add(i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @DisplayName("Removing all the elements through the iterator leaves an empty list")
+    @Test
+    public void testIteratorRemoveAll() {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        int expected = 0;
+        while (iterator.hasNext()) {
+            assertEquals(expected++, iterator.next());
+            iterator.remove();
+        }
+        assertTrue(list.isEmpty());
+        list.add(1);
+        assertEquals(1, list.get(0));
+    }
+
+    @DisplayName("Node capacity less than 2 - throws IllegalArgument")
+    @Test
+    public void testSmallNodeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<String>(1));
+    }
+}